@@ -3,11 +3,15 @@ package com.shrey.hotel;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.shrey.hotel.config.NativeHints;
+
 @SpringBootApplication
+@ImportRuntimeHints(NativeHints.class)
 public class HotelManagementApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,123 @@
+package com.shrey.hotel.analytics;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.shrey.hotel.analytics.BookingColumns.Snapshot;
+
+/**
+ * Group-by scans over a snapshot's line columns. Each scan splits the line range into
+ * fork-join tasks that fill private accumulator arrays, which are added together on join,
+ * so no task touches shared state.
+ */
+final class Aggregations {
+    // Below this many lines a task scans instead of splitting further
+    static final int MIN_SPLIT = 4_096;
+
+    private Aggregations() {}
+
+    /**
+     * Room nights sold and room revenue per (room type, day) for days [fromDay, fromDay + days).
+     * Result layout: sold at {@code type * days + d}, revenue at {@code (types + type) * days + d}.
+     * A line's revenue is spread evenly over its nights, the remainder on the first nights.
+     */
+    static long[] roomNights(ForkJoinPool pool, Snapshot snapshot, int fromDay, int days) {
+        int width = snapshot.roomTypes().length * days;
+        return pool.invoke(new Scan(snapshot.rooms(), threshold(pool, snapshot.rooms())) {
+            @Override
+            long[] leaf(int from, int to) {
+                long[] acc = new long[2 * width];
+                int end = fromDay + days;
+                for (int i = from; i < to; i++) {
+                    int row = snapshot.roomRow()[i];
+                    int nights = snapshot.nights()[row];
+                    if (nights == 0 || !snapshot.counts(row)) continue;
+                    int start = snapshot.startDay()[row];
+                    int first = Math.max(start, fromDay);
+                    int last = Math.min(start + nights, end);
+                    if (first >= last) continue;
+                    long revenue = snapshot.roomRevenue()[i];
+                    long perNight = revenue / nights;
+                    long remainder = revenue % nights;
+                    int base = snapshot.roomType()[i] * days - fromDay;
+                    for (int day = first; day < last; day++) {
+                        acc[base + day]++;
+                        acc[width + base + day] += perNight + (day - start < remainder ? 1 : 0);
+                    }
+                }
+                return acc;
+            }
+        });
+    }
+
+    /** Quantity and revenue per cuisine for bookings starting in [fromDay, fromDay + days): quantity at c, revenue at cuisines + c. */
+    static long[] cuisineRevenue(ForkJoinPool pool, Snapshot snapshot, int fromDay, int days) {
+        int cuisines = snapshot.cuisines().length;
+        return pool.invoke(new Scan(snapshot.foods(), threshold(pool, snapshot.foods())) {
+            @Override
+            long[] leaf(int from, int to) {
+                long[] acc = new long[2 * cuisines];
+                for (int i = from; i < to; i++) {
+                    int row = snapshot.foodRow()[i];
+                    int day = snapshot.startDay()[row] - fromDay;
+                    if (day < 0 || day >= days || !snapshot.counts(row)) continue;
+                    int c = snapshot.cuisine()[i];
+                    acc[c] += snapshot.foodQuantity()[i];
+                    acc[cuisines + c] += snapshot.foodRevenue()[i];
+                }
+                return acc;
+            }
+        });
+    }
+
+    // Enough leaves to keep every worker busy a few times over, but not so many that accumulators dominate
+    private static int threshold(ForkJoinPool pool, int lines) {
+        return Math.max(MIN_SPLIT, lines / (pool.getParallelism() * 4) + 1);
+    }
+
+    private abstract static class Scan extends RecursiveTask<long[]> {
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        Scan(int lines, int threshold) {
+            this(0, lines, threshold);
+        }
+
+        private Scan(int from, int to, int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        abstract long[] leaf(int from, int to);
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= threshold) return leaf(from, to);
+            int mid = (from + to) >>> 1;
+            Scan root = this instanceof Part part ? part.root : this;
+            Scan left = new Part(root, from, mid);
+            left.fork();
+            long[] right = new Part(root, mid, to).compute();
+            long[] sum = left.join();
+            for (int i = 0; i < sum.length; i++) sum[i] += right[i];
+            return sum;
+        }
+
+        // A sub-range that delegates the scan body to the root task
+        private static final class Part extends Scan {
+            private final Scan root;
+
+            Part(Scan root, int from, int to) {
+                super(from, to, root.threshold);
+                this.root = root;
+            }
+
+            @Override
+            long[] leaf(int from, int to) {
+                return root.leaf(from, to);
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.shrey.hotel.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.analytics.BookingColumns.Snapshot;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
+
+/**
+ * Occupancy, ADR, RevPAR and cuisine revenue over a columnar snapshot of bookings.
+ *
+ * <p>The snapshot is refreshed from a high-water mark on {@code (updated_at, id)}: only bookings
+ * changed since the last refresh are read (re-reading a short overlap so commits that landed
+ * slightly out of order are not missed). Deletes don't move {@code updated_at}, so when the live
+ * row count no longer matches the table the snapshot is rebuilt from scratch; so it is when
+ * tombstones outnumber live rows. Queries serve the published snapshot and trigger a refresh
+ * once it is older than {@code app.analytics.max-staleness}.
+ *
+ * <p>Archived bookings (V11) are read alongside the hot table: a move keeps the row's
+ * {@code (updated_at, id)}, so the snapshot sees the same booking before and after.
+ */
+@Service
+public class AnalyticsService {
+    public enum GroupBy {
+        DAY, ROOM_TYPE;
+
+        // Accepts day, room_type, room-type, roomType
+        public static GroupBy of(String value) {
+            String key = value.replaceAll("[-_ ]", "").toUpperCase(Locale.ROOT);
+            for (GroupBy groupBy : values()) {
+                if (groupBy.name().replace("_", "").equals(key)) return groupBy;
+            }
+            throw new IllegalArgumentException("groupBy must be day or roomType");
+        }
+    }
+
+    public record OccupancyRow(String group, long roomNightsSold, long roomNightsAvailable, BigDecimal occupancyPercent,
+                               BigDecimal roomRevenue, BigDecimal adr, BigDecimal revpar) {}
+
+    public record CuisineRow(String cuisine, long quantity, BigDecimal revenue) {}
+
+    public record SnapshotInfo(int bookings, int roomLines, int foodLines, LocalDateTime highWaterMark, Instant refreshedAt) {}
+
+    static final int BATCH_SIZE = 1_000;
+    static final int MAX_RANGE_DAYS = 3_660;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final TypeReference<Map<Long, Integer>> QUANTITIES = new TypeReference<>() {};
+
+    private static final String CHANGED_BOOKINGS = """
+            SELECT id, check_in_date, check_out_date, total_amount, status, food_quantities, created_at, updated_at
+            FROM bookings WHERE (updated_at, id) > (?, ?)
+            UNION ALL
+            SELECT id, check_in_date, check_out_date, total_amount, status, food_quantities, created_at, updated_at
+            FROM bookings_archive WHERE (updated_at, id) > (?, ?)
+            ORDER BY updated_at, id LIMIT ?""";
+
+    private record BookingRow(long id, LocalDate checkIn, LocalDate checkOut, long totalMinor, String status,
+                              String foodQuantities, LocalDateTime createdAt, LocalDateTime updatedAt) {}
+
+    private record RoomLine(String roomType, long nightlyMinor) {}
+
+    private record FoodLine(long foodItemId, String cuisine, long priceMinor) {}
+
+    private record Published(Snapshot snapshot, SnapshotInfo info) {}
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate readOnly;
+    private final ObjectMapper objectMapper;
+    private final Duration maxStaleness;
+    private final Duration overlap;
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // Owned by whoever holds refreshLock
+    private BookingColumns columns = new BookingColumns();
+    private LocalDateTime highWater = EPOCH;
+
+    private volatile Published published;
+
+    public AnalyticsService(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                            @Value("${app.analytics.max-staleness:30s}") Duration maxStaleness,
+                            @Value("${app.analytics.overlap:5s}") Duration overlap) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.maxStaleness = maxStaleness;
+        this.overlap = overlap;
+        // One consistent view for the changed rows, their lines and the row count
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readOnly.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public List<OccupancyRow> occupancy(LocalDate from, LocalDate to, GroupBy groupBy) {
+        int days = days(from, to);
+        Snapshot snapshot = current();
+        long[] acc = Aggregations.roomNights(pool, snapshot, (int) from.toEpochDay(), days);
+        int types = snapshot.roomTypes().length;
+        int width = types * days;
+        long[] inventory = snapshot.roomInventory();
+        List<OccupancyRow> rows = new ArrayList<>();
+        if (groupBy == GroupBy.DAY) {
+            long rooms = 0;
+            for (long count : inventory) rooms += count;
+            for (int d = 0; d < days; d++) {
+                long sold = 0;
+                long revenue = 0;
+                for (int t = 0; t < types; t++) {
+                    sold += acc[t * days + d];
+                    revenue += acc[width + t * days + d];
+                }
+                rows.add(row(from.plusDays(d).toString(), sold, rooms, revenue));
+            }
+        } else {
+            for (int t = 0; t < types; t++) {
+                long sold = 0;
+                long revenue = 0;
+                for (int d = 0; d < days; d++) {
+                    sold += acc[t * days + d];
+                    revenue += acc[width + t * days + d];
+                }
+                long available = inventory[t] * days;
+                if (sold > 0 || available > 0) rows.add(row(snapshot.roomTypes()[t], sold, available, revenue));
+            }
+        }
+        return rows;
+    }
+
+    public List<CuisineRow> cuisineRevenue(LocalDate from, LocalDate to) {
+        int days = days(from, to);
+        Snapshot snapshot = current();
+        long[] acc = Aggregations.cuisineRevenue(pool, snapshot, (int) from.toEpochDay(), days);
+        int cuisines = snapshot.cuisines().length;
+        List<CuisineRow> rows = new ArrayList<>();
+        for (int c = 0; c < cuisines; c++) {
+            if (acc[c] > 0) rows.add(new CuisineRow(snapshot.cuisines()[c], acc[c], Money.toDecimal(acc[cuisines + c])));
+        }
+        rows.sort(Comparator.comparing(CuisineRow::revenue).reversed());
+        return rows;
+    }
+
+    public SnapshotInfo info() {
+        current();
+        return published.info();
+    }
+
+    public SnapshotInfo refresh() {
+        refreshLock.lock();
+        try {
+            load();
+        } finally {
+            refreshLock.unlock();
+        }
+        return published.info();
+    }
+
+    private Snapshot current() {
+        Published seen = published;
+        if (seen != null && seen.info().refreshedAt().plus(maxStaleness).isAfter(Instant.now())) return seen.snapshot();
+        if (seen == null) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return seen.snapshot(); // another request is refreshing; this one is only slightly stale
+        }
+        try {
+            if (published == seen) load();
+        } finally {
+            refreshLock.unlock();
+        }
+        return published.snapshot();
+    }
+
+    private void load() {
+        readOnly.executeWithoutResult(tx -> {
+            if (columns.dead() > columns.live()) reset();
+            scan();
+            Long total = jdbc.queryForObject("SELECT (SELECT count(*) FROM bookings) + (SELECT count(*) FROM bookings_archive)",
+                    Long.class);
+            if (total == null || columns.live() != total) {
+                reset();
+                scan();
+            }
+            Map<String, Long> rooms = new LinkedHashMap<>();
+            jdbc.query("SELECT room_type, count(*) FROM rooms GROUP BY room_type",
+                    (RowCallbackHandler) rs -> rooms.put(rs.getString(1), rs.getLong(2)));
+            rooms.keySet().forEach(columns.roomTypes::ordinal);
+            long[] inventory = new long[columns.roomTypes.size()];
+            String[] types = columns.roomTypes.values();
+            for (int t = 0; t < types.length; t++) inventory[t] = rooms.getOrDefault(types[t], 0L);
+            Snapshot snapshot = columns.snapshot(inventory);
+            published = new Published(snapshot, new SnapshotInfo(snapshot.liveBookings(), snapshot.rooms(), snapshot.foods(),
+                    highWater, Instant.now()));
+        });
+    }
+
+    private void reset() {
+        columns = new BookingColumns();
+        highWater = EPOCH;
+    }
+
+    private void scan() {
+        LocalDateTime cursor = highWater.minus(overlap);
+        long cursorId = 0;
+        while (true) {
+            List<BookingRow> batch = jdbc.query(CHANGED_BOOKINGS, (rs, n) -> new BookingRow(
+                    rs.getLong("id"),
+                    rs.getObject("check_in_date", LocalDate.class),
+                    rs.getObject("check_out_date", LocalDate.class),
+                    Money.toMinor(rs.getBigDecimal("total_amount")),
+                    rs.getString("status"),
+                    rs.getString("food_quantities"),
+                    rs.getTimestamp("created_at").toLocalDateTime(),
+                    rs.getTimestamp("updated_at").toLocalDateTime()),
+                    Timestamp.valueOf(cursor), cursorId, Timestamp.valueOf(cursor), cursorId, BATCH_SIZE);
+            if (batch.isEmpty()) return;
+            List<Long> ids = batch.stream().map(BookingRow::id).toList();
+            Map<Long, List<RoomLine>> roomLines = roomLines(ids);
+            Map<Long, List<FoodLine>> foodLines = foodLines(ids);
+            for (BookingRow booking : batch) {
+                apply(booking, roomLines.getOrDefault(booking.id(), List.of()), foodLines.getOrDefault(booking.id(), List.of()));
+            }
+            BookingRow last = batch.get(batch.size() - 1);
+            cursor = last.updatedAt();
+            cursorId = last.id();
+            if (cursor.isAfter(highWater)) highWater = cursor;
+            if (batch.size() < BATCH_SIZE) return;
+        }
+    }
+
+    private Map<Long, List<RoomLine>> roomLines(List<Long> ids) {
+        Map<Long, List<RoomLine>> lines = new HashMap<>();
+        String in = placeholders(ids.size());
+        jdbc.query("SELECT br.booking_id, r.room_type, r.price_per_night"
+                        + " FROM (SELECT booking_id, room_id FROM booking_rooms WHERE booking_id IN (" + in + ")"
+                        + " UNION ALL SELECT booking_id, room_id FROM booking_rooms_archive WHERE booking_id IN (" + in + ")) br"
+                        + " JOIN rooms r ON r.id = br.room_id ORDER BY br.booking_id, r.id",
+                (RowCallbackHandler) rs -> lines.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                        .add(new RoomLine(rs.getString(2), Money.toMinor(rs.getBigDecimal(3)))),
+                twice(ids));
+        return lines;
+    }
+
+    private Map<Long, List<FoodLine>> foodLines(List<Long> ids) {
+        Map<Long, List<FoodLine>> lines = new HashMap<>();
+        String in = placeholders(ids.size());
+        jdbc.query("SELECT bf.booking_id, f.id, f.cuisine, f.price"
+                        + " FROM (SELECT booking_id, food_item_id FROM booking_food_items WHERE booking_id IN (" + in + ")"
+                        + " UNION ALL SELECT booking_id, food_item_id FROM booking_food_items_archive WHERE booking_id IN (" + in + ")) bf"
+                        + " JOIN food_items f ON f.id = bf.food_item_id",
+                (RowCallbackHandler) rs -> lines.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                        .add(new FoodLine(rs.getLong(2), rs.getString(3), Money.toMinor(rs.getBigDecimal(4)))),
+                twice(ids));
+        return lines;
+    }
+
+    // Food is priced like Booking does (missing quantity = 1); what remains of the total is room revenue, split by nightly price
+    private void apply(BookingRow booking, List<RoomLine> rooms, List<FoodLine> food) {
+        long version = booking.updatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000 + booking.updatedAt().getNano() / 1_000;
+        if (columns.isCurrent(booking.id(), version)) return;
+        long nights = PricingEngine.nights(booking.checkIn(), booking.checkOut());
+        LocalDate start = booking.checkIn() != null ? booking.checkIn() : booking.createdAt().toLocalDate();
+        int row = columns.appendBooking(booking.id(), version, (int) start.toEpochDay(), (int) nights, status(booking.status()));
+
+        Map<Long, Integer> quantities = quantities(booking.foodQuantities());
+        long foodTotal = 0;
+        for (FoodLine line : food) {
+            int quantity = Math.max(0, quantities.getOrDefault(line.foodItemId(), 1));
+            long revenue = line.priceMinor() * quantity;
+            foodTotal += revenue;
+            columns.appendFood(row, line.cuisine(), quantity, revenue);
+        }
+
+        long roomTotal = Math.max(0, booking.totalMinor() - foodTotal);
+        long weight = 0;
+        for (RoomLine line : rooms) weight += line.nightlyMinor();
+        long assigned = 0;
+        for (int i = 0; i < rooms.size(); i++) {
+            RoomLine line = rooms.get(i);
+            long share = i == rooms.size() - 1 ? roomTotal - assigned
+                    : weight == 0 ? roomTotal / rooms.size()
+                    : Math.multiplyExact(roomTotal, line.nightlyMinor()) / weight;
+            assigned += share;
+            columns.appendRoom(row, line.roomType(), share);
+        }
+    }
+
+    private Map<Long, Integer> quantities(String json) {
+        if (json == null || json.isBlank()) return Collections.emptyMap();
+        try {
+            Map<Long, Integer> quantities = objectMapper.readValue(json, QUANTITIES);
+            return quantities == null ? Collections.emptyMap() : quantities;
+        } catch (Exception e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    private static byte status(String status) {
+        try {
+            return (byte) BookingStatus.valueOf(status).ordinal();
+        } catch (RuntimeException e) {
+            return BookingColumns.NO_STATUS;
+        }
+    }
+
+    private static int days(LocalDate from, LocalDate to) {
+        if (from == null || to == null) throw new IllegalArgumentException("from and to are required");
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days < 1) throw new IllegalArgumentException("to must not be before from");
+        if (days > MAX_RANGE_DAYS) throw new IllegalArgumentException("range is limited to " + MAX_RANGE_DAYS + " days");
+        return (int) days;
+    }
+
+    private static OccupancyRow row(String group, long sold, long available, long revenueMinor) {
+        return new OccupancyRow(group, sold, available,
+                available == 0 ? BigDecimal.ZERO.setScale(2)
+                        : BigDecimal.valueOf(sold * 100).divide(BigDecimal.valueOf(available), 2, RoundingMode.HALF_UP),
+                Money.toDecimal(revenueMinor), perUnit(revenueMinor, sold), perUnit(revenueMinor, available));
+    }
+
+    // Minor units divided over count, as a decimal amount
+    private static BigDecimal perUnit(long minor, long count) {
+        if (count == 0) return BigDecimal.ZERO.setScale(2);
+        return BigDecimal.valueOf(minor).divide(BigDecimal.valueOf(count).movePointRight(2), 2, RoundingMode.HALF_UP);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    // Arguments for a hot-table IN list followed by the same list against the archive
+    private static Object[] twice(List<Long> ids) {
+        Object[] args = new Object[ids.size() * 2];
+        for (int i = 0; i < ids.size(); i++) {
+            args[i] = ids.get(i);
+            args[ids.size() + i] = ids.get(i);
+        }
+        return args;
+    }
+}
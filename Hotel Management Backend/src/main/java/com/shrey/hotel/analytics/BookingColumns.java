@@ -0,0 +1,138 @@
+package com.shrey.hotel.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.shrey.hotel.model.BookingStatus;
+
+/**
+ * Column-per-field store of bookings and their room and food lines: days as epoch days,
+ * money as minor units, room types and cuisines as dictionary ordinals. Only the refresher
+ * writes. Columns are append-only and grow by copying, so a {@link Snapshot} taken earlier
+ * never sees later rows; a changed booking is tombstoned and appended again, and the
+ * {@code alive} column is copied before a tombstone when a snapshot still holds it.
+ */
+final class BookingColumns {
+    static final byte NO_STATUS = -1;
+    static final byte CANCELLED = (byte) BookingStatus.CANCELLED.ordinal();
+
+    final Dictionary roomTypes = new Dictionary();
+    final Dictionary cuisines = new Dictionary();
+
+    // Booking rows
+    private final Map<Long, Integer> rowOf = new HashMap<>();
+    private long[] version = new long[256];
+    private int[] startDay = new int[256];
+    private int[] nights = new int[256];
+    private byte[] status = new byte[256];
+    private byte[] alive = new byte[256];
+    private boolean aliveShared;
+    private int bookings;
+    private int dead;
+
+    // Room lines: one per room in a booking, carrying its share of the room revenue
+    private int[] roomRow = new int[256];
+    private int[] roomType = new int[256];
+    private long[] roomRevenue = new long[256];
+    private int rooms;
+
+    // Food lines
+    private int[] foodRow = new int[256];
+    private int[] cuisine = new int[256];
+    private int[] foodQuantity = new int[256];
+    private long[] foodRevenue = new long[256];
+    private int foods;
+
+    int live() {
+        return bookings - dead;
+    }
+
+    int dead() {
+        return dead;
+    }
+
+    // Has this booking version already been applied?
+    boolean isCurrent(long bookingId, long bookingVersion) {
+        Integer row = rowOf.get(bookingId);
+        return row != null && version[row] == bookingVersion;
+    }
+
+    /** Starts a booking row, tombstoning the previous version of the same booking. */
+    int appendBooking(long bookingId, long bookingVersion, int day, int stayNights, byte bookingStatus) {
+        Integer previous = rowOf.get(bookingId);
+        if (previous != null) {
+            if (aliveShared) {
+                alive = Arrays.copyOf(alive, alive.length);
+                aliveShared = false;
+            }
+            alive[previous] = 0;
+            dead++;
+        }
+        if (bookings == version.length) {
+            int capacity = bookings * 2;
+            version = Arrays.copyOf(version, capacity);
+            startDay = Arrays.copyOf(startDay, capacity);
+            nights = Arrays.copyOf(nights, capacity);
+            status = Arrays.copyOf(status, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            aliveShared = false;
+        }
+        int row = bookings++;
+        version[row] = bookingVersion;
+        startDay[row] = day;
+        nights[row] = stayNights;
+        status[row] = bookingStatus;
+        alive[row] = 1;
+        rowOf.put(bookingId, row);
+        return row;
+    }
+
+    void appendRoom(int row, String type, long revenueMinor) {
+        if (rooms == roomRow.length) {
+            int capacity = rooms * 2;
+            roomRow = Arrays.copyOf(roomRow, capacity);
+            roomType = Arrays.copyOf(roomType, capacity);
+            roomRevenue = Arrays.copyOf(roomRevenue, capacity);
+        }
+        roomRow[rooms] = row;
+        roomType[rooms] = roomTypes.ordinal(type);
+        roomRevenue[rooms] = revenueMinor;
+        rooms++;
+    }
+
+    void appendFood(int row, String cuisineName, int quantity, long revenueMinor) {
+        if (foods == foodRow.length) {
+            int capacity = foods * 2;
+            foodRow = Arrays.copyOf(foodRow, capacity);
+            cuisine = Arrays.copyOf(cuisine, capacity);
+            foodQuantity = Arrays.copyOf(foodQuantity, capacity);
+            foodRevenue = Arrays.copyOf(foodRevenue, capacity);
+        }
+        foodRow[foods] = row;
+        cuisine[foods] = cuisines.ordinal(cuisineName);
+        foodQuantity[foods] = quantity;
+        foodRevenue[foods] = revenueMinor;
+        foods++;
+    }
+
+    /** Read-only view of the rows so far; roomInventory is indexed by room type ordinal. */
+    Snapshot snapshot(long[] roomInventory) {
+        aliveShared = true;
+        return new Snapshot(bookings, startDay, nights, status, alive,
+                rooms, roomRow, roomType, roomRevenue,
+                foods, foodRow, cuisine, foodQuantity, foodRevenue,
+                roomTypes.values(), cuisines.values(), roomInventory, live());
+    }
+
+    record Snapshot(int bookings, int[] startDay, int[] nights, byte[] status, byte[] alive,
+                    int rooms, int[] roomRow, int[] roomType, long[] roomRevenue,
+                    int foods, int[] foodRow, int[] cuisine, int[] foodQuantity, long[] foodRevenue,
+                    String[] roomTypes, String[] cuisines, long[] roomInventory, int liveBookings) {
+
+        // Rows that count towards analytics: current version and not cancelled
+        boolean counts(int row) {
+            return alive[row] != 0 && status[row] != CANCELLED;
+        }
+    }
+}
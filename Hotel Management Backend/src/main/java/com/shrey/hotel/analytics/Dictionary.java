@@ -0,0 +1,30 @@
+package com.shrey.hotel.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Dictionary encoding for a low-cardinality string column (room type, cuisine): values are stored as int ordinals
+final class Dictionary {
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private String[] values = new String[8];
+    private int size;
+
+    int ordinal(String value) {
+        String key = value == null ? "" : value;
+        Integer existing = ordinals.get(key);
+        if (existing != null) return existing;
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size] = key;
+        ordinals.put(key, size);
+        return size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    String[] values() {
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -1,9 +1,12 @@
 package com.shrey.hotel.config;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import com.shrey.hotel.model.FoodItem;
@@ -14,19 +17,23 @@ import com.shrey.hotel.repository.FoodItemRepository;
 import com.shrey.hotel.repository.RoomRepository;
 import com.shrey.hotel.repository.UserRepository;
 
+// Demo data for dev and tests; prod sets app.seed.enabled=false and skips it entirely
 @Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true", matchIfMissing = true)
 public class DataInitializer implements CommandLineRunner {
     private final RoomRepository roomRepository;
     private final FoodItemRepository foodItemRepository;
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private final PasswordEncoder passwordEncoder;
 
     public DataInitializer(RoomRepository roomRepository, 
                           FoodItemRepository foodItemRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          PasswordEncoder passwordEncoder) {
         this.roomRepository = roomRepository;
         this.foodItemRepository = foodItemRepository;
         this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
     }
 
     @Override
@@ -41,100 +48,99 @@ public class DataInitializer implements CommandLineRunner {
             seedFoodItems();
         }
         
-        // Create or update default admin user
+        // Create the default admin user once; hashing on every boot was the slowest part of startup
         User admin = userRepository.findByEmail("admin@hotel.com").orElse(null);
         if (admin == null) {
             admin = new User();
             admin.setEmail("admin@hotel.com");
             admin.setFullName("Admin User");
-            System.out.println("✅ Creating default admin user: admin@hotel.com");
-        } else {
-            System.out.println("✅ Updating default admin user: admin@hotel.com");
+            admin.setPasswordHash(passwordEncoder.encode("admin12345"));
+            admin.setRole(Role.ADMIN);
+            userRepository.save(admin);
+            System.out.println("✅ Created default admin user: admin@hotel.com / admin12345");
+        } else if (admin.getRole() != Role.ADMIN) {
+            admin.setRole(Role.ADMIN);
+            userRepository.save(admin);
+            System.out.println("✅ Restored ADMIN role for admin@hotel.com");
         }
-        admin.setPasswordHash(passwordEncoder.encode("admin12345"));
-        admin.setRole(Role.ADMIN);
-        userRepository.save(admin);
-        System.out.println("✅ Admin user password set to: admin12345");
         
         System.out.println("✅ Data initialization complete!");
-        System.out.println("📊 Rooms: " + roomRepository.count());
-        System.out.println("🍽️ Food Items: " + foodItemRepository.count());
-        System.out.println("👤 Users: " + userRepository.count());
     }
 
     private void seedRooms() {
+        // Saved together so the inserts go out as one JDBC batch
+        List<Room> rooms = new ArrayList<>();
+
         // 15 Standard Rooms (101-115)
         for (int i = 101; i <= 115; i++) {
-            Room room = new Room();
-            room.setRoomNumber(i);
-            room.setRoomType("Standard Room");
-            room.setPricePerNight(new BigDecimal("1500"));
-            room.setAvailable(true);
-            roomRepository.save(room);
+            rooms.add(room(i, "Standard Room", "1500"));
         }
 
         // 5 Deluxe Rooms (201-205)
         for (int i = 201; i <= 205; i++) {
-            Room room = new Room();
-            room.setRoomNumber(i);
-            room.setRoomType("Deluxe Room");
-            room.setPricePerNight(new BigDecimal("2000"));
-            room.setAvailable(true);
-            roomRepository.save(room);
+            rooms.add(room(i, "Deluxe Room", "2000"));
         }
 
         // 1 Suite (301)
-        Room suite = new Room();
-        suite.setRoomNumber(301);
-        suite.setRoomType("Suite");
-        suite.setPricePerNight(new BigDecimal("5000"));
-        suite.setAvailable(true);
-        roomRepository.save(suite);
+        rooms.add(room(301, "Suite", "5000"));
+        roomRepository.saveAll(rooms);
 
         System.out.println("✅ Seeded 21 rooms (15 Standard, 5 Deluxe, 1 Suite)");
     }
 
+    private static Room room(int number, String type, String price) {
+        Room room = new Room();
+        room.setRoomNumber(number);
+        room.setRoomType(type);
+        room.setPricePerNight(new BigDecimal(price));
+        room.setAvailable(true);
+        return room;
+    }
+
     private void seedFoodItems() {
+        List<FoodItem> items = new ArrayList<>();
+
         // Indian Cuisine
-        saveFoodItem("Butter Chicken", "Indian", "250");
-        saveFoodItem("Masala Dosa", "Indian", "180");
+        items.add(foodItem("Butter Chicken", "Indian", "250"));
+        items.add(foodItem("Masala Dosa", "Indian", "180"));
 
         // Italian Cuisine
-        saveFoodItem("Margherita Pizza", "Italian", "300");
-        saveFoodItem("Pasta Carbonara", "Italian", "280");
+        items.add(foodItem("Margherita Pizza", "Italian", "300"));
+        items.add(foodItem("Pasta Carbonara", "Italian", "280"));
 
         // Japanese Cuisine
-        saveFoodItem("Sushi Rolls", "Japanese", "350");
-        saveFoodItem("Ramen Noodles", "Japanese", "220");
+        items.add(foodItem("Sushi Rolls", "Japanese", "350"));
+        items.add(foodItem("Ramen Noodles", "Japanese", "220"));
 
         // Thai Cuisine
-        saveFoodItem("Pad Thai", "Thai", "280");
-        saveFoodItem("Green Curry", "Thai", "320");
+        items.add(foodItem("Pad Thai", "Thai", "280"));
+        items.add(foodItem("Green Curry", "Thai", "320"));
 
         // Chinese Cuisine
-        saveFoodItem("Kung Pao Chicken", "Chinese", "240");
-        saveFoodItem("Chow Mein", "Chinese", "200");
+        items.add(foodItem("Kung Pao Chicken", "Chinese", "240"));
+        items.add(foodItem("Chow Mein", "Chinese", "200"));
 
         // Middle Eastern Cuisine
-        saveFoodItem("Chicken Tikka", "Middle Eastern", "220");
-        saveFoodItem("Falafel Wrap", "Middle Eastern", "180");
+        items.add(foodItem("Chicken Tikka", "Middle Eastern", "220"));
+        items.add(foodItem("Falafel Wrap", "Middle Eastern", "180"));
 
         // American Cuisine
-        saveFoodItem("Cheeseburger", "American", "200");
-        saveFoodItem("Caesar Salad", "American", "180");
+        items.add(foodItem("Cheeseburger", "American", "200"));
+        items.add(foodItem("Caesar Salad", "American", "180"));
 
         // Norwegian Cuisine
-        saveFoodItem("Grilled Salmon", "Norwegian", "400");
-        saveFoodItem("Fish Soup", "Norwegian", "280");
+        items.add(foodItem("Grilled Salmon", "Norwegian", "400"));
+        items.add(foodItem("Fish Soup", "Norwegian", "280"));
 
+        foodItemRepository.saveAll(items);
         System.out.println("✅ Seeded 16 food items across 8 cuisines");
     }
 
-    private void saveFoodItem(String name, String cuisine, String price) {
+    private static FoodItem foodItem(String name, String cuisine, String price) {
         FoodItem item = new FoodItem();
         item.setName(name);
         item.setCuisine(cuisine);
         item.setPrice(new BigDecimal(price));
-        foodItemRepository.save(item);
+        return item;
     }
 }
@@ -0,0 +1,87 @@
+package com.shrey.hotel.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.shrey.hotel.datasource.DataSourcePools;
+import com.shrey.hotel.datasource.ReadYourWritesTracker;
+import com.shrey.hotel.datasource.ReplicaRoutingDataSource;
+import com.shrey.hotel.datasource.RoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Replaces Boot's single pool when app.datasource.routing.enabled=true
+@Configuration
+@EnableConfigurationProperties(RoutingProperties.class)
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    // Only the routing proxy is a DataSource bean, so pools aren't profiled or health-checked twice
+    @Bean(destroyMethod = "close")
+    public DataSourcePools dataSourcePools(DataSourceProperties dataSourceProperties, RoutingProperties routing,
+                                           Environment environment, MeterRegistry meterRegistry) {
+        var metrics = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(DataSourcePools.PRIMARY);
+        primary.setMetricsTrackerFactory(metrics);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<RoutingProperties.Replica> configured = routing.replicas();
+        for (int i = 0; i < configured.size(); i++) {
+            RoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.url());
+            pool.setUsername(replica.username() != null ? replica.username() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.password() != null ? replica.password() : dataSourceProperties.determinePassword());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setMaximumPoolSize(routing.replicaPoolSize());
+            pool.setReadOnly(true);
+            // Start even if the replica is down; the health check keeps it out of rotation
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(metrics);
+            replicas.put(pool.getPoolName(), pool);
+        }
+
+        DataSourcePools pools = new DataSourcePools(primary, replicas, DataSourcePools.sqlLagProbe(routing.lagQuery()), routing.maxLag());
+        pools.start(routing.healthCheckInterval());
+        return pools;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RoutingProperties routing) {
+        return new ReadYourWritesTracker(routing.stickyWindow().toMillis(), System::currentTimeMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourcePools pools, ReadYourWritesTracker tracker, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(pools, tracker, meterRegistry));
+    }
+
+    // Reported under /actuator/health "replicas"; stays UP when replicas are down because reads fall back to the primary
+    @Bean
+    public HealthIndicator replicasHealthIndicator(DataSourcePools pools) {
+        return () -> Health.up().withDetails(new LinkedHashMap<>(pools.states())).build();
+    }
+}
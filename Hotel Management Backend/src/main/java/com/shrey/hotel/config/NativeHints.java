@@ -0,0 +1,29 @@
+package com.shrey.hotel.config;
+
+import java.io.Closeable;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+// Reflection and proxies AOT can't see on its own; only read by the native image build
+public class NativeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // ProfilingDataSource wraps each JDBC type in its own JDK proxy
+        for (Class<?> type : new Class<?>[] {DataSource.class, Connection.class, Statement.class,
+                PreparedStatement.class, CallableStatement.class, ResultSet.class}) {
+            hints.proxies().registerJdkProxy(type);
+        }
+        // A wrapped pool keeps its close()
+        hints.proxies().registerJdkProxy(DataSource.class, Closeable.class);
+        hints.proxies().registerJdkProxy(DataSource.class, AutoCloseable.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.shrey.hotel.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,9 +24,13 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RequestLoggingFilter requestLoggingFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RequestLoggingFilter requestLoggingFilter) {
+    private final int managementPort;
+
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, RequestLoggingFilter requestLoggingFilter,
+                          @Value("${management.server.port:-1}") int managementPort) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.requestLoggingFilter = requestLoggingFilter;
+        this.managementPort = managementPort;
     }
 
     @Bean
@@ -40,7 +45,11 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**", "/rooms/**", "/food-items/**", "/bookings/**").permitAll()
                 .requestMatchers("/api/auth/**", "/api/rooms/**", "/api/food-items/**", "/api/bookings/**").permitAll() // context-path explicit patterns for authenticated routes
                 .requestMatchers("/api/admin/**").hasRole("ADMIN") // Admin endpoints require ADMIN role
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/actuator/health", "/actuator/health/**", "/", "/error").permitAll()
+                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/actuator/health", "/actuator/health/**", "/livez", "/readyz", "/", "/error").permitAll()
+                // Anonymous scrape only on the separate management port (prod); on the public port it needs ADMIN
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                        && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                .requestMatchers("/actuator/prometheus", "/actuator/perf").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .addFilterBefore(requestLoggingFilter, UsernamePasswordAuthenticationFilter.class)
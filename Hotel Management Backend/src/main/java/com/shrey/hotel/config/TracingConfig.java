@@ -0,0 +1,37 @@
+package com.shrey.hotel.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.shrey.hotel.observability.CorrelationIdPropagator;
+import com.shrey.hotel.observability.FileSpanExporter;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+
+@Configuration
+public class TracingConfig {
+
+    // Enables @Observed on services and controllers
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    // Composed with the W3C propagator by Boot's OpenTelemetry auto-configuration
+    @Bean
+    public CorrelationIdPropagator correlationIdPropagator() {
+        return new CorrelationIdPropagator();
+    }
+
+    // Picked up by the auto-configured batch span processor
+    @Bean
+    @ConditionalOnProperty(name = "app.tracing.file.enabled", havingValue = "true")
+    public FileSpanExporter fileSpanExporter(@Value("${app.tracing.file.path}") String path) {
+        return new FileSpanExporter(Path.of(path));
+    }
+}
@@ -1,10 +1,19 @@
 package com.shrey.hotel.controller;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -14,19 +23,37 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.events.RoomPriceChanged;
+import com.shrey.hotel.exception.NotFoundException;
 import com.shrey.hotel.model.Booking;
 import com.shrey.hotel.model.BookingStatus;
 import com.shrey.hotel.model.FoodItem;
 import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.RoomRate;
 import com.shrey.hotel.model.User;
+import com.shrey.hotel.pricing.Money;
 import com.shrey.hotel.repository.BookingRepository;
 import com.shrey.hotel.repository.FoodItemRepository;
 import com.shrey.hotel.repository.RoomRepository;
 import com.shrey.hotel.repository.UserRepository;
+import com.shrey.hotel.service.BookingArchive;
+import com.shrey.hotel.service.BookingLifecycle;
+import com.shrey.hotel.service.BookingSearch;
+import com.shrey.hotel.service.BookingService;
+import com.shrey.hotel.service.CatalogImportService;
+import com.shrey.hotel.service.CatalogImportService.ImportResult;
+import com.shrey.hotel.service.CatalogResponseCache;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+import com.shrey.hotel.service.RateCalendar;
+import com.shrey.hotel.service.UserDirectory;
+import com.shrey.hotel.service.UserDirectory.UserSummary;
 
 @RestController
 @RequestMapping("/admin")
@@ -47,11 +74,32 @@ public class AdminController {
     @Autowired
     private BookingRepository bookingRepository;
 
-    // Get all users
-    @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
-    }
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private CatalogResponseCache catalogCache;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
+    @Autowired
+    private RateCalendar rateCalendar;
+
+    @Autowired
+    private DomainEventBus eventBus;
+
+    @Autowired
+    private BookingArchive bookingArchive;
+
+    @Autowired
+    private BookingLifecycle bookingLifecycle;
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    @Autowired
+    private BookingSearch bookingSearch;
 
     // Get all rooms with full details
     @GetMapping("/rooms")
@@ -68,14 +116,25 @@ public class AdminController {
     // Get all bookings with full details
     @GetMapping("/bookings")
     public ResponseEntity<List<Booking>> getAllBookings() {
-        List<Booking> bookings = bookingRepository.findAll();
-        // Initialize lazy-loaded collections to avoid serialization issues
-        bookings.forEach(booking -> {
-            booking.getUser().getEmail(); // Initialize user
-            booking.getRooms().size(); // Initialize rooms
-            booking.getFoodItems().size(); // Initialize food items
-        });
-        return ResponseEntity.ok(bookings);
+        // User is fetched in the same query; rooms and food items are eager
+        return ResponseEntity.ok(bookingService.findAll());
+    }
+
+    // Search bookings by any mix of filters; pass nextCursor back as cursor for the following page
+    @GetMapping("/bookings/search")
+    public ResponseEntity<BookingSearch.Result> searchBookings(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInTo,
+            @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Integer roomNumber,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        BookingSearch.Criteria criteria = new BookingSearch.Criteria(checkInFrom, checkInTo, status, email, roomNumber,
+                minAmount, maxAmount);
+        return ResponseEntity.ok(bookingSearch.search(criteria, cursor, size));
     }
 
     // Get comprehensive database statistics
@@ -96,33 +155,23 @@ public class AdminController {
         // Food stats
         stats.put("totalFoodItems", foodItemRepository.count());
         
-        // Booking stats
-        List<Booking> allBookings = bookingRepository.findAll();
-        stats.put("totalBookings", allBookings.size());
-        
-        long pendingBookings = allBookings.stream()
-            .filter(b -> BookingStatus.PENDING.equals(b.getStatus()))
-            .count();
-        long confirmedBookings = allBookings.stream()
-            .filter(b -> BookingStatus.CONFIRMED.equals(b.getStatus()))
-            .count();
-        long cancelledBookings = allBookings.stream()
-            .filter(b -> BookingStatus.CANCELLED.equals(b.getStatus()))
-            .count();
-        long completedBookings = allBookings.stream()
-            .filter(b -> BookingStatus.COMPLETED.equals(b.getStatus()))
-            .count();
-            
-        stats.put("pendingBookings", pendingBookings);
-        stats.put("confirmedBookings", confirmedBookings);
-        stats.put("cancelledBookings", cancelledBookings);
-        stats.put("completedBookings", completedBookings);
+        // Booking stats: counts and revenue per status summed in SQL instead of loading every booking
+        Map<BookingStatus, Long> byStatus = new EnumMap<>(BookingStatus.class);
+        long totalBookings = 0;
+        long totalRevenue = 0;
+        for (BookingRepository.StatusTotals totals : bookingRepository.totalsByStatus()) {
+            if (totals.getStatus() != null) byStatus.put(totals.getStatus(), totals.getBookings());
+            totalBookings += totals.getBookings();
+            totalRevenue = Math.addExact(totalRevenue, Money.toMinor(totals.getRevenue()));
+        }
+        stats.put("totalBookings", totalBookings);
+        stats.put("pendingBookings", byStatus.getOrDefault(BookingStatus.PENDING, 0L));
+        stats.put("confirmedBookings", byStatus.getOrDefault(BookingStatus.CONFIRMED, 0L));
+        stats.put("cancelledBookings", byStatus.getOrDefault(BookingStatus.CANCELLED, 0L));
+        stats.put("completedBookings", byStatus.getOrDefault(BookingStatus.COMPLETED, 0L));
         
-        // Revenue stats
-        double totalRevenue = allBookings.stream()
-            .mapToDouble(booking -> booking.getTotalAmount().doubleValue())
-            .sum();
-        stats.put("totalRevenue", totalRevenue);
+        // Revenue stats (exact: summed in minor units, not double)
+        stats.put("totalRevenue", Money.toDecimal(totalRevenue));
         
         return ResponseEntity.ok(stats);
     }
@@ -133,29 +182,39 @@ public class AdminController {
             @PathVariable Long id, 
             @RequestParam boolean available) {
         Room room = roomRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Room not found"));
+            .orElseThrow(() -> new NotFoundException("Room not found"));
         room.setAvailable(available);
-        return ResponseEntity.ok(roomRepository.save(room));
+        Room saved = roomRepository.save(room);
+        catalogCache.invalidate(Catalog.ROOMS);
+        eventBus.publish(RoomAvailabilityChanged.of(saved));
+        return ResponseEntity.ok(saved);
     }
 
     // Update room details
     @PutMapping("/rooms/{id}")
     public ResponseEntity<Room> updateRoom(@PathVariable Long id, @RequestBody Room roomDetails) {
         Room room = roomRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Room not found"));
+            .orElseThrow(() -> new NotFoundException("Room not found"));
         
+        java.math.BigDecimal oldPrice = room.getPricePerNight();
+        Boolean wasAvailable = room.getAvailable();
         room.setRoomNumber(roomDetails.getRoomNumber());
         room.setRoomType(roomDetails.getRoomType());
         room.setPricePerNight(roomDetails.getPricePerNight());
         room.setAvailable(roomDetails.getAvailable());
         
-        return ResponseEntity.ok(roomRepository.save(room));
+        Room saved = roomRepository.save(room);
+        catalogCache.invalidate(Catalog.ROOMS);
+        publishPriceChange(saved, oldPrice);
+        if (!java.util.Objects.equals(wasAvailable, saved.getAvailable())) eventBus.publish(RoomAvailabilityChanged.of(saved));
+        return ResponseEntity.ok(saved);
     }
 
     // Delete room
     @DeleteMapping("/rooms/{id}")
     public ResponseEntity<Void> deleteRoom(@PathVariable Long id) {
         roomRepository.deleteById(id);
+        catalogCache.invalidate(Catalog.ROOMS);
         return ResponseEntity.noContent().build();
     }
 
@@ -163,19 +222,22 @@ public class AdminController {
     @PutMapping("/food-items/{id}")
     public ResponseEntity<FoodItem> updateFoodItem(@PathVariable Long id, @RequestBody FoodItem foodDetails) {
         FoodItem foodItem = foodItemRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Food item not found"));
+            .orElseThrow(() -> new NotFoundException("Food item not found"));
         
         foodItem.setName(foodDetails.getName());
         foodItem.setCuisine(foodDetails.getCuisine());
         foodItem.setPrice(foodDetails.getPrice());
         
-        return ResponseEntity.ok(foodItemRepository.save(foodItem));
+        FoodItem saved = foodItemRepository.save(foodItem);
+        catalogCache.invalidate(Catalog.FOOD);
+        return ResponseEntity.ok(saved);
     }
 
     // Delete food item
     @DeleteMapping("/food-items/{id}")
     public ResponseEntity<Void> deleteFoodItem(@PathVariable Long id) {
         foodItemRepository.deleteById(id);
+        catalogCache.invalidate(Catalog.FOOD);
         return ResponseEntity.noContent().build();
     }
 
@@ -183,28 +245,60 @@ public class AdminController {
     @PostMapping("/food-items")
     public ResponseEntity<FoodItem> createFoodItem(@RequestBody FoodItem foodItem) {
         FoodItem savedItem = foodItemRepository.save(foodItem);
+        catalogCache.invalidate(Catalog.FOOD);
         return ResponseEntity.ok(savedItem);
     }
 
+    // Bulk import rooms from CSV (header row required) or NDJSON; existing rooms are matched on room number
+    @PostMapping(value = "/import/rooms", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importRooms(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(catalogImportService.importCatalog(
+            Catalog.ROOMS, CatalogImportService.formatOf(contentType), body));
+    }
+
+    // Bulk import food items from CSV or NDJSON; existing items are matched on name
+    @PostMapping(value = "/import/food-items", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResult> importFoodItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        return ResponseEntity.ok(catalogImportService.importCatalog(
+            Catalog.FOOD, CatalogImportService.formatOf(contentType), body));
+    }
+
     // Update room price (dedicated endpoint for price updates)
     @PutMapping("/rooms/{id}/price")
     public ResponseEntity<Map<String, Object>> updateRoomPrice(
             @PathVariable Long id, 
             @RequestBody Map<String, Object> priceData) {
         Room room = roomRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Room not found"));
+            .orElseThrow(() -> new NotFoundException("Room not found"));
         
-        if (priceData.containsKey("pricePerNight")) {
+        Map<String, Object> response = new HashMap<>();
+        if (priceData.containsKey("pricePerNight") && priceData.get("effectiveFrom") != null) {
+            // Dated change: a rate period for the room's type, leaving stays before it at their old price
+            java.math.BigDecimal weekday = new java.math.BigDecimal(priceData.get("pricePerNight").toString());
+            Object weekendObj = priceData.get("weekendPrice");
+            Object toObj = priceData.get("effectiveTo");
+            RoomRate rate = rateCalendar.addRate(new RoomRate(room.getRoomType(),
+                    RequestDates.parse("effectiveFrom", priceData.get("effectiveFrom")),
+                    RequestDates.parse("effectiveTo", toObj),
+                    weekday,
+                    weekendObj == null ? null : new java.math.BigDecimal(weekendObj.toString())));
+            response.put("rate", rate);
+            eventBus.publish(new RoomPriceChanged(room.getId(), room.getRoomType(), room.getPricePerNight(),
+                    rate.getWeekdayRate(), rate.getEffectiveFrom()));
+        } else if (priceData.containsKey("pricePerNight")) {
+            // Decimal string form (not the binary double), rounded to the minor unit like every other price
             Object priceObj = priceData.get("pricePerNight");
-            if (priceObj instanceof Number number) {
-                room.setPricePerNight(new java.math.BigDecimal(number.doubleValue()));
-            } else {
-                room.setPricePerNight(new java.math.BigDecimal(priceObj.toString()));
-            }
+            java.math.BigDecimal oldPrice = room.getPricePerNight();
+            room.setPricePerNight(Money.toDecimal(Money.toMinor(new java.math.BigDecimal(priceObj.toString()))));
             roomRepository.save(room);
+            catalogCache.invalidate(Catalog.ROOMS);
+            publishPriceChange(room, oldPrice);
         }
         
-        Map<String, Object> response = new HashMap<>();
         response.put("id", room.getId());
         response.put("roomNumber", room.getRoomNumber());
         response.put("pricePerNight", room.getPricePerNight());
@@ -212,15 +306,53 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // Rate periods for every room type, in the order they apply
+    @GetMapping("/rates")
+    public ResponseEntity<List<RoomRate>> getRates() {
+        return ResponseEntity.ok(rateCalendar.rates());
+    }
+
+    // Add a weekday/weekend rate for a room type from effectiveFrom (optionally until effectiveTo, exclusive)
+    @PostMapping("/rates")
+    public ResponseEntity<RoomRate> addRate(@RequestBody RoomRate rate) {
+        rate.setId(null);
+        return ResponseEntity.ok(rateCalendar.addRate(rate));
+    }
+
+    @DeleteMapping("/rates/{id}")
+    public ResponseEntity<?> deleteRate(@PathVariable Long id) {
+        if (!rateCalendar.deleteRate(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(Map.of("success", true, "message", "Rate deleted"));
+    }
+
+    private void publishPriceChange(Room room, java.math.BigDecimal oldPrice) {
+        if (oldPrice == null || room.getPricePerNight() == null || oldPrice.compareTo(room.getPricePerNight()) != 0) {
+            eventBus.publish(new RoomPriceChanged(room.getId(), room.getRoomType(), oldPrice, room.getPricePerNight(), null));
+        }
+    }
+
     // Update booking status (admin override)
     @PutMapping("/bookings/{id}/status")
     public ResponseEntity<Booking> updateBookingStatus(
             @PathVariable Long id, 
             @RequestParam String status) {
-        Booking booking = bookingRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Booking not found"));
-        booking.setStatus(BookingStatus.valueOf(status.toUpperCase()));
-        return ResponseEntity.ok(bookingRepository.save(booking));
+        Booking booking = bookingService.updateStatus(id, BookingStatus.valueOf(status.toUpperCase()))
+            .orElseThrow(() -> new NotFoundException("Booking not found"));
+        return ResponseEntity.ok(booking);
+    }
+
+    // Move finished bookings past the retention window to the archive now instead of waiting for the job
+    @PostMapping("/bookings/archive")
+    public ResponseEntity<Map<String, Object>> archiveBookings() {
+        return ResponseEntity.ok(Map.of("archived", bookingArchive.archive()));
+    }
+
+    // Complete checked-out bookings and release their rooms now instead of waiting for the processor
+    @PostMapping("/bookings/lifecycle")
+    public ResponseEntity<BookingLifecycle.Result> processBookingLifecycle() {
+        return ResponseEntity.ok(bookingLifecycle.process());
     }
 
     // Delete booking
@@ -238,23 +370,35 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
-    // Get user details with booking history
+    // Paginated user directory with per-user booking aggregates; q is an email or name prefix
+    @GetMapping({"/users", "/users/directory"})
+    public ResponseEntity<Page<UserSummary>> getUserDirectory(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(userDirectory.search(q, PageRequest.of(page, size)));
+    }
+
+    // Get user details: aggregates from SQL plus one page of booking history
     @GetMapping("/users/{id}")
-    public ResponseEntity<Map<String, Object>> getUserDetails(@PathVariable Long id) {
+    public ResponseEntity<Map<String, Object>> getUserDetails(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
         User user = userRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+            .orElseThrow(() -> new NotFoundException("User not found"));
+        UserSummary summary = userDirectory.summary(id)
+            .orElseThrow(() -> new NotFoundException("User not found"));
         
-        List<Booking> userBookings = bookingRepository.findByUser(user, org.springframework.data.domain.Pageable.unpaged()).getContent();
+        Page<Booking> userBookings = bookingService.history(user, null,
+                PageRequest.of(page, size, Sort.by("createdAt").descending()));
         
         Map<String, Object> details = new HashMap<>();
         details.put("user", user);
-        details.put("bookings", userBookings);
-        details.put("totalBookings", userBookings.size());
-        
-        double totalSpent = userBookings.stream()
-            .mapToDouble(booking -> booking.getTotalAmount().doubleValue())
-            .sum();
-        details.put("totalSpent", totalSpent);
+        details.put("bookings", userBookings.getContent());
+        details.put("totalBookings", summary.bookings());
+        details.put("totalSpent", summary.totalSpent());
+        details.put("lastStay", summary.lastStay());
         
         return ResponseEntity.ok(details);
     }
@@ -0,0 +1,60 @@
+package com.shrey.hotel.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.shrey.hotel.analytics.AnalyticsService;
+import com.shrey.hotel.analytics.AnalyticsService.CuisineRow;
+import com.shrey.hotel.analytics.AnalyticsService.GroupBy;
+import com.shrey.hotel.analytics.AnalyticsService.OccupancyRow;
+import com.shrey.hotel.analytics.AnalyticsService.SnapshotInfo;
+
+// Date ranges are inclusive and default to the last 30 days
+@RestController
+@RequestMapping("/admin/analytics")
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    // Occupancy %, ADR and RevPAR per day or per room type
+    @GetMapping("/occupancy")
+    public ResponseEntity<List<OccupancyRow>> occupancy(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String groupBy) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(analyticsService.occupancy(from != null ? from : end.minusDays(29), end, GroupBy.of(groupBy)));
+    }
+
+    @GetMapping("/cuisine-revenue")
+    public ResponseEntity<List<CuisineRow>> cuisineRevenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        return ResponseEntity.ok(analyticsService.cuisineRevenue(from != null ? from : end.minusDays(29), end));
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<SnapshotInfo> snapshot() {
+        return ResponseEntity.ok(analyticsService.info());
+    }
+
+    // Pull changed bookings now instead of waiting for the snapshot to go stale
+    @PostMapping("/refresh")
+    public ResponseEntity<SnapshotInfo> refresh() {
+        return ResponseEntity.ok(analyticsService.refresh());
+    }
+}
@@ -1,13 +1,14 @@
 package com.shrey.hotel.controller;
 
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.Map;
-import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,54 +20,54 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shrey.hotel.exception.NotFoundException;
 import com.shrey.hotel.model.Booking;
 import com.shrey.hotel.model.BookingStatus;
-import com.shrey.hotel.repository.BookingRepository;
 import com.shrey.hotel.repository.UserRepository;
-import com.shrey.hotel.service.EmailService;
+import com.shrey.hotel.service.BookingService;
+
+import io.micrometer.observation.annotation.Observed;
 
 @RestController
+@Observed
 @RequestMapping("/bookings")
 public class BookingController {
-    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
     private final UserRepository userRepository;
-    private final EmailService emailService;
 
-    public BookingController(BookingRepository bookingRepository,
-                             UserRepository userRepository,
-                             Optional<EmailService> emailService) {
-        this.bookingRepository = bookingRepository;
+    // Cancellation emails go out from the event bus once BookingService.updateStatus commits
+    public BookingController(BookingService bookingService,
+                             UserRepository userRepository) {
+        this.bookingService = bookingService;
         this.userRepository = userRepository;
-        this.emailService = emailService.orElse(null); // optional in @WebMvcTest slices
     }
 
     @GetMapping("/my-history")
     public ResponseEntity<Page<Booking>> getMyBookings(
             Principal principal,
             @RequestParam(required = false) BookingStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInTo,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         // For testing, use first user if not authenticated
         var user = principal != null
-            ? userRepository.findByEmail(principal.getName()).orElseThrow(() -> new RuntimeException("User not found"))
-            : userRepository.findAll().stream().findFirst().orElseThrow(() -> new RuntimeException("No users found"));
+            ? userRepository.findByEmail(principal.getName()).orElseThrow(() -> new NotFoundException("User not found"))
+            : userRepository.findAll().stream().findFirst().orElseThrow(() -> new NotFoundException("No users found"));
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         
-        if (status != null) {
-            return ResponseEntity.ok(bookingRepository.findByUserAndStatus(user, status, pageable));
-        }
-        return ResponseEntity.ok(bookingRepository.findByUser(user, pageable));
+        return ResponseEntity.ok(bookingService.history(user, status, checkInFrom, checkInTo, pageable));
     }
 
     @GetMapping("/{id}")
     @SuppressWarnings("null")
     public ResponseEntity<Booking> getBooking(@PathVariable Long id, Principal principal) {
-        return bookingRepository.findById(id)
+        return bookingService.findWithUser(id)
                 .filter(booking -> booking.getUser().getEmail().equals(principal.getName()))
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElseThrow(() -> new NotFoundException("Booking not found"));
     }
 
     @PutMapping("/{id}/status")
@@ -76,12 +77,8 @@ public class BookingController {
             @RequestBody Map<String, String> body,
             Principal principal) {
         
-        var bookingOpt = bookingRepository.findById(id);
-        if (bookingOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        
-        Booking booking = bookingOpt.get();
+        Booking booking = bookingService.findWithUser(id)
+                .orElseThrow(() -> new NotFoundException("Booking not found"));
         if (principal == null) {
             return ResponseEntity.status(401).body(Map.of("error", "Not authenticated"));
         }
@@ -98,16 +95,7 @@ public class BookingController {
             BookingStatus status = BookingStatus.valueOf(newStatus.toUpperCase());
             // Only allow user to cancel their own bookings
             if (status == BookingStatus.CANCELLED) {
-                booking.setStatus(status);
-                bookingRepository.save(booking);
-                if (emailService != null) {
-                    try {
-                        String to = booking.getUser().getEmail();
-                        String details = "Rooms: " + (booking.getRooms() == null ? 0 : booking.getRooms().size()) +
-                                ", Total: " + booking.getTotalAmount();
-                        emailService.sendBookingCancellation(to, String.valueOf(booking.getId()), details);
-                    } catch (Exception ignored) {}
-                }
+                bookingService.updateStatus(id, status);
                 return ResponseEntity.ok(Map.of("success", true, "message", "Booking cancelled"));
             }
             return ResponseEntity.badRequest().body(Map.of("error", "Can only cancel bookings"));
@@ -119,28 +107,14 @@ public class BookingController {
     @DeleteMapping("/{id}")
     @SuppressWarnings("null")
     public ResponseEntity<?> deleteBooking(@PathVariable Long id, Principal principal) {
-        var bookingOpt = bookingRepository.findById(id);
-        if (bookingOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        
-        Booking booking = bookingOpt.get();
+        Booking booking = bookingService.findWithUser(id)
+                .orElseThrow(() -> new NotFoundException("Booking not found"));
         if (!booking.getUser().getEmail().equals(principal.getName())) {
             return ResponseEntity.status(403).body(Map.of("error", "Not authorized"));
         }
         
         // Soft delete by setting status to CANCELLED
-        booking.setStatus(BookingStatus.CANCELLED);
-        bookingRepository.save(booking);
-        
-        if (emailService != null) {
-            try {
-                String to = booking.getUser().getEmail();
-                String details = "Rooms: " + (booking.getRooms() == null ? 0 : booking.getRooms().size()) +
-                        ", Total: " + booking.getTotalAmount();
-                emailService.sendBookingCancellation(to, String.valueOf(booking.getId()), details);
-            } catch (Exception ignored) {}
-        }
+        bookingService.updateStatus(id, BookingStatus.CANCELLED);
         return ResponseEntity.ok(Map.of("success", true, "message", "Booking deleted"));
     }
 
@@ -150,6 +124,6 @@ public class BookingController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return ResponseEntity.ok(bookingRepository.findAll(pageable));
+        return ResponseEntity.ok(bookingService.findAll(pageable));
     }
 }
@@ -11,45 +11,69 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shrey.hotel.events.BookingCreated;
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.exception.ConflictException;
+import com.shrey.hotel.exception.ValidationException;
 import com.shrey.hotel.model.Booking;
 import com.shrey.hotel.model.BookingStatus;
 import com.shrey.hotel.model.FoodItem;
 import com.shrey.hotel.model.Room;
-import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
 import com.shrey.hotel.repository.FoodItemRepository;
 import com.shrey.hotel.repository.RoomRepository;
 import com.shrey.hotel.repository.UserRepository;
-import com.shrey.hotel.service.EmailService;
+import com.shrey.hotel.service.BookingPartitions;
+import com.shrey.hotel.service.BookingService;
+import com.shrey.hotel.service.RateCalendar;
+
+import io.micrometer.observation.annotation.Observed;
 
 @RestController
+@Observed
 @RequestMapping("/bookings")
 public class BookingCreationController {
 
-    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
     private final FoodItemRepository foodItemRepository;
-    private final EmailService emailService; // optional
+    private final DomainEventBus eventBus;
+    private final HotelMetrics metrics;
+    private final RateCalendar rateCalendar;
+    private final BookingPartitions partitions;
 
-    public BookingCreationController(BookingRepository bookingRepository,
+    public BookingCreationController(BookingService bookingService,
                                      UserRepository userRepository,
                                      RoomRepository roomRepository,
                                      FoodItemRepository foodItemRepository,
-                                     EmailService emailService) {
-        this.bookingRepository = bookingRepository;
+                                     DomainEventBus eventBus,
+                                     HotelMetrics metrics,
+                                     RateCalendar rateCalendar,
+                                     BookingPartitions partitions) {
+        this.bookingService = bookingService;
         this.userRepository = userRepository;
         this.roomRepository = roomRepository;
         this.foodItemRepository = foodItemRepository;
-        this.emailService = emailService;
+        this.eventBus = eventBus;
+        this.metrics = metrics;
+        this.rateCalendar = rateCalendar;
+        this.partitions = partitions;
     }
 
     @PostMapping
     public ResponseEntity<?> create(@RequestBody BookingCreateRequest req, Principal principal) {
+        var sample = metrics.start();
         // For now, allow anonymous bookings - in production, enforce authentication
         var user = principal != null 
             ? userRepository.findByEmail(principal.getName()).orElse(null)
             : userRepository.findAll().stream().findFirst().orElse(null); // fallback for testing
-        if (user == null) return ResponseEntity.status(403).body(Map.of("error","User not found or not authenticated"));
+        if (user == null) {
+            metrics.bookingCreated(sample, "rejected");
+            return ResponseEntity.status(403).body(Map.of("error","User not found or not authenticated"));
+        }
         List<Room> rooms = req.roomIds == null ? List.of() : roomRepository.findAllById(req.roomIds);
         
         // Handle both foodItemIds and foodItems formats
@@ -71,28 +95,16 @@ public class BookingCreationController {
             foodItems = req.foodItemIds == null ? List.of() : foodItemRepository.findAllById(req.foodItemIds);
         }
 
-        // Calculate total amount server-side
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        
-        // Calculate room charges (room price * quantity * number of nights)
-        if (req.checkInDate != null && req.checkOutDate != null) {
-            java.time.LocalDate checkIn = java.time.LocalDate.parse(req.checkInDate);
-            java.time.LocalDate checkOut = java.time.LocalDate.parse(req.checkOutDate);
-            long nights = java.time.temporal.ChronoUnit.DAYS.between(checkIn, checkOut);
-            if (nights <= 0) nights = 1;
-            
-            for (Room room : rooms) {
-                BigDecimal roomPrice = room.getPricePerNight() != null ? room.getPricePerNight() : BigDecimal.ZERO;
-                totalAmount = totalAmount.add(roomPrice.multiply(BigDecimal.valueOf(nights)));
-            }
-        }
-        
-        // Calculate food charges
-        for (FoodItem food : foodItems) {
-            BigDecimal foodPrice = food.getPrice() != null ? food.getPrice() : BigDecimal.ZERO;
-            Integer quantity = foodQuantitiesMap.getOrDefault(food.getId(), 1);
-            totalAmount = totalAmount.add(foodPrice.multiply(BigDecimal.valueOf(quantity)));
+        // Calculate total amount server-side: each night at its calendar rate (only when dates are given) + food × quantity
+        java.time.LocalDate checkIn = RequestDates.parse("checkInDate", req.checkInDate);
+        java.time.LocalDate checkOut = RequestDates.parse("checkOutDate", req.checkOutDate);
+        if (checkIn != null && PricingEngine.nights(checkIn, checkOut) > partitions.maxStayNights()) {
+            metrics.bookingCreated(sample, "rejected");
+            throw new ValidationException("Stays are limited to " + partitions.maxStayNights() + " nights");
         }
+        long total = Math.addExact(rateCalendar.roomCharges(rooms, checkIn, checkOut),
+                PricingEngine.foodCharges(foodItems, foodQuantitiesMap, 1));
+        BigDecimal totalAmount = Money.toDecimal(total);
 
         Booking booking = new Booking();
         booking.setUser(user);
@@ -102,17 +114,21 @@ public class BookingCreationController {
         booking.setTotalAmount(totalAmount);
         booking.setStatus(BookingStatus.CONFIRMED);
         
-        // Set check-in and check-out dates
-        if (req.checkInDate != null) {
-            booking.setCheckInDate(java.time.LocalDate.parse(req.checkInDate));
-        }
-        if (req.checkOutDate != null) {
-            booking.setCheckOutDate(java.time.LocalDate.parse(req.checkOutDate));
-        }
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
 
-        booking = bookingRepository.save(booking);
+        // Rows are routed by check-in month; bookings without dates check in today, whose partition always exists
+        if (checkIn != null) partitions.ensure(checkIn);
+        var saved = bookingService.createBooking(booking);
+        if (saved.isEmpty()) {
+            metrics.bookingCreated(sample, "conflict");
+            throw new ConflictException("Room is already booked for those dates");
+        }
+        booking = saved.get();
+        metrics.bookingCreated(sample, "created");
 
-        try { if (emailService != null) emailService.sendBookingConfirmation(booking); } catch (Exception ignored) {}
+        // Confirmation email and any other side effects run on the event consumers
+        eventBus.publish(BookingCreated.of(booking));
 
         return ResponseEntity.ok(Map.of(
                 "id", booking.getId(),
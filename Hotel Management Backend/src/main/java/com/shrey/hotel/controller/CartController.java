@@ -15,7 +15,10 @@ import org.springframework.web.bind.annotation.RestController;
 import com.shrey.hotel.dto.CartDTO;
 import com.shrey.hotel.service.CartService;
 
+import io.micrometer.observation.annotation.Observed;
+
 @RestController
+@Observed
 @RequestMapping("/cart")
 public class CartController {
     private final CartService cartService;
@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,29 +18,39 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shrey.hotel.exception.NotFoundException;
 import com.shrey.hotel.model.FoodItem;
 import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.service.CatalogResponseCache;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
 
 @RestController
 @RequestMapping("/food-items")
 public class FoodController {
     private final FoodItemRepository foodItemRepository;
+    private final CatalogResponseCache catalogCache;
 
-    public FoodController(FoodItemRepository foodItemRepository) {
+    public FoodController(FoodItemRepository foodItemRepository, CatalogResponseCache catalogCache) {
         this.foodItemRepository = foodItemRepository;
+        this.catalogCache = catalogCache;
     }
 
+    // Serves pre-rendered bytes (Page<FoodItem> JSON) from the catalog cache
     @GetMapping
-    public ResponseEntity<Page<FoodItem>> getAllFood(
+    public ResponseEntity<byte[]> getAllFood(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "name") String sortBy) {
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-        return ResponseEntity.ok(foodItemRepository.findAll(pageable));
+        var rendered = catalogCache.get(Catalog.FOOD, page + ":" + size + ":" + sortBy, () -> foodItemRepository.findAll(pageable));
+        return catalogCache.respond(rendered, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/search")
@@ -72,7 +83,7 @@ public class FoodController {
     public ResponseEntity<FoodItem> getFoodById(@PathVariable long id) {
         return foodItemRepository.findById(id)
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElseThrow(() -> new NotFoundException("Food item not found"));
     }
 
     @GetMapping("/cuisine/{cuisine}")
@@ -95,6 +106,7 @@ public class FoodController {
     @SuppressWarnings("null")
     public ResponseEntity<FoodItem> createFood(@RequestBody FoodItem foodItem) {
         FoodItem saved = foodItemRepository.save(foodItem);
+        catalogCache.invalidate(Catalog.FOOD);
         return ResponseEntity.ok(saved);
     }
 
@@ -108,9 +120,11 @@ public class FoodController {
                     existing.setCuisine(foodItem.getCuisine());
                     existing.setPrice(foodItem.getPrice());
                     existing.setImageUrl(foodItem.getImageUrl());
-                    return ResponseEntity.ok(foodItemRepository.save(existing));
+                    FoodItem saved = foodItemRepository.save(existing);
+                    catalogCache.invalidate(Catalog.FOOD);
+                    return ResponseEntity.ok(saved);
                 })
-                .orElse(ResponseEntity.notFound().build());
+                .orElseThrow(() -> new NotFoundException("Food item not found"));
     }
 
     @DeleteMapping("/{id}")
@@ -118,9 +132,10 @@ public class FoodController {
     @SuppressWarnings("null")
     public ResponseEntity<?> deleteFood(@PathVariable Long id) {
         if (!foodItemRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
+            throw new NotFoundException("Food item not found");
         }
         foodItemRepository.deleteById(id);
+        catalogCache.invalidate(Catalog.FOOD);
         return ResponseEntity.ok(Map.of("success", true, "message", "Food item deleted"));
     }
 }
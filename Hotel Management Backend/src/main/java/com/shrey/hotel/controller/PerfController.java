@@ -0,0 +1,47 @@
+package com.shrey.hotel.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.shrey.hotel.observability.SqlStatsRegistry;
+
+@RestController
+@RequestMapping("/admin/perf")
+@PreAuthorize("hasRole('ADMIN')")
+public class PerfController {
+    private static final int MAX_LIMIT = 200;
+
+    private final SqlStatsRegistry sqlStats;
+
+    public PerfController(SqlStatsRegistry sqlStats) {
+        this.sqlStats = sqlStats;
+    }
+
+    // Top-N SQL fingerprints; orderBy is one of total, max, calls, rows
+    @GetMapping("/sql")
+    public ResponseEntity<Map<String, Object>> topSql(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "total") String orderBy) {
+        List<Map<String, Object>> top = sqlStats.top(Math.max(1, Math.min(limit, MAX_LIMIT)), orderBy);
+        return ResponseEntity.ok(Map.of(
+                "fingerprints", sqlStats.size(),
+                "orderBy", orderBy,
+                "statements", top
+        ));
+    }
+
+    // Start a fresh measurement window, e.g. before a load test
+    @DeleteMapping("/sql")
+    public ResponseEntity<?> resetSql() {
+        sqlStats.reset();
+        return ResponseEntity.ok(Map.of("success", true, "message", "SQL statistics reset"));
+    }
+}
@@ -0,0 +1,21 @@
+package com.shrey.hotel.controller;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import com.shrey.hotel.exception.ValidationException;
+
+// ISO dates from request bodies; a malformed one is the client's mistake (400), not a server error
+final class RequestDates {
+
+    private RequestDates() {}
+
+    static LocalDate parse(String field, Object value) {
+        if (value == null) return null;
+        try {
+            return LocalDate.parse(value.toString());
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException(field + " must be a date like 2025-01-31");
+        }
+    }
+}
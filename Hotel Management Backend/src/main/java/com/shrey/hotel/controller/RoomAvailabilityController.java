@@ -0,0 +1,50 @@
+package com.shrey.hotel.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.shrey.hotel.service.AvailabilityBroadcaster;
+import com.shrey.hotel.service.AvailabilityCalendar;
+
+// Push instead of polling /rooms/available: frames carry [{roomId, roomNumber, available}] deltas
+@RestController
+@RequestMapping("/rooms/availability")
+public class RoomAvailabilityController {
+    private final AvailabilityBroadcaster broadcaster;
+    private final AvailabilityCalendar calendar;
+
+    public RoomAvailabilityController(AvailabilityBroadcaster broadcaster, AvailabilityCalendar calendar) {
+        this.broadcaster = broadcaster;
+        this.calendar = calendar;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return broadcaster.subscribe(lastEventId);
+    }
+
+    // Heatmap: free rooms per room type for each night from `from`
+    @GetMapping("/calendar")
+    public ResponseEntity<?> calendar(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam(defaultValue = "90") int days,
+                                      @RequestParam(required = false) String roomType) {
+        return ResponseEntity.ok(calendar.calendar(from != null ? from : LocalDate.now(), days, roomType));
+    }
+
+    // Fewest rooms free on any night of the stay, per room type
+    @GetMapping("/min-free")
+    public ResponseEntity<?> minFree(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+                                     @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut,
+                                     @RequestParam(required = false) String roomType) {
+        return ResponseEntity.ok(calendar.minFree(checkIn, checkOut, roomType));
+    }
+}
@@ -1,6 +1,7 @@
 package com.shrey.hotel.controller;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -8,6 +9,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,32 +19,57 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.events.RoomPriceChanged;
+import com.shrey.hotel.exception.NotFoundException;
+import com.shrey.hotel.exception.ValidationException;
 import com.shrey.hotel.model.Room;
+import com.shrey.hotel.pricing.PricingEngine;
 import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.service.BookingPartitions;
 import com.shrey.hotel.service.BookingService;
+import com.shrey.hotel.service.CatalogResponseCache;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+import com.shrey.hotel.service.RateCalendar;
+import com.shrey.hotel.service.RateCalendar.Quote;
 
 @RestController
 @RequestMapping("/rooms")
 public class RoomController {
     private final RoomRepository roomRepository;
     private final BookingService bookingService;
+    private final CatalogResponseCache catalogCache;
+    private final RateCalendar rateCalendar;
+    private final DomainEventBus eventBus;
+    private final BookingPartitions partitions;
 
-    public RoomController(RoomRepository roomRepository, BookingService bookingService) {
+    public RoomController(RoomRepository roomRepository, BookingService bookingService, CatalogResponseCache catalogCache,
+                          RateCalendar rateCalendar, DomainEventBus eventBus, BookingPartitions partitions) {
         this.roomRepository = roomRepository;
         this.bookingService = bookingService;
+        this.catalogCache = catalogCache;
+        this.rateCalendar = rateCalendar;
+        this.eventBus = eventBus;
+        this.partitions = partitions;
     }
 
+    // Serves pre-rendered bytes (Page<Room> JSON) from the catalog cache
     @GetMapping
-    public ResponseEntity<Page<Room>> getAllRooms(
+    public ResponseEntity<byte[]> getAllRooms(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "roomNumber") String sortBy) {
+            @RequestParam(defaultValue = "roomNumber") String sortBy,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
-        return ResponseEntity.ok(roomRepository.findAll(pageable));
+        var rendered = catalogCache.get(Catalog.ROOMS, page + ":" + size + ":" + sortBy, () -> roomRepository.findAll(pageable));
+        return catalogCache.respond(rendered, ifNoneMatch, acceptEncoding);
     }
 
     @GetMapping("/search")
@@ -74,7 +102,21 @@ public class RoomController {
     public ResponseEntity<Room> getRoomById(@PathVariable long id) {
         return roomRepository.findById(id)
                 .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+                .orElseThrow(() -> new NotFoundException("Room not found"));
+    }
+
+    // Stay price from the rate calendar: weekday/weekend/seasonal rates, flat price where no rate applies.
+    // Anyone can ask, so stays are capped like booking creation: the quote walks every night
+    @GetMapping("/{id}/quote")
+    public ResponseEntity<Quote> quote(@PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        if (PricingEngine.nights(checkIn, checkOut) > partitions.maxStayNights()) {
+            throw new ValidationException("Stays are limited to " + partitions.maxStayNights() + " nights");
+        }
+        return roomRepository.findById(id)
+                .map(room -> ResponseEntity.ok(rateCalendar.quote(room, checkIn, checkOut)))
+                .orElseThrow(() -> new NotFoundException("Room not found"));
     }
 
     @GetMapping("/type/{type}")
@@ -108,6 +150,7 @@ public class RoomController {
     @SuppressWarnings("null")
     public ResponseEntity<Room> createRoom(@RequestBody Room room) {
         Room saved = roomRepository.save(room);
+        catalogCache.invalidate(Catalog.ROOMS);
         return ResponseEntity.ok(saved);
     }
 
@@ -117,13 +160,23 @@ public class RoomController {
     public ResponseEntity<Room> updateRoom(@PathVariable Long id, @RequestBody Room room) {
         return roomRepository.findById(id)
                 .map(existing -> {
+                    BigDecimal oldPrice = existing.getPricePerNight();
+                    Boolean wasAvailable = existing.getAvailable();
                     existing.setRoomNumber(room.getRoomNumber());
                     existing.setRoomType(room.getRoomType());
                     existing.setPricePerNight(room.getPricePerNight());
                     existing.setAvailable(room.getAvailable());
-                    return ResponseEntity.ok(roomRepository.save(existing));
+                    Room saved = roomRepository.save(existing);
+                    catalogCache.invalidate(Catalog.ROOMS);
+                    if (oldPrice == null || saved.getPricePerNight() == null || oldPrice.compareTo(saved.getPricePerNight()) != 0) {
+                        eventBus.publish(new RoomPriceChanged(saved.getId(), saved.getRoomType(), oldPrice, saved.getPricePerNight(), null));
+                    }
+                    if (!java.util.Objects.equals(wasAvailable, saved.getAvailable())) {
+                        eventBus.publish(RoomAvailabilityChanged.of(saved));
+                    }
+                    return ResponseEntity.ok(saved);
                 })
-                .orElse(ResponseEntity.notFound().build());
+                .orElseThrow(() -> new NotFoundException("Room not found"));
     }
 
     @DeleteMapping("/{id}")
@@ -131,9 +184,10 @@ public class RoomController {
     @SuppressWarnings("null")
     public ResponseEntity<?> deleteRoom(@PathVariable Long id) {
         if (!roomRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
+            throw new NotFoundException("Room not found");
         }
         roomRepository.deleteById(id);
+        catalogCache.invalidate(Catalog.ROOMS);
         return ResponseEntity.ok(Map.of("success", true, "message", "Room deleted"));
     }
 }
@@ -0,0 +1,133 @@
+package com.shrey.hotel.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The primary pool plus named replica pools, with a background health/lag check per replica.
+ * A replica is eligible for reads only after a successful check showing lag within the limit,
+ * so a replica that is down, unreachable or behind is skipped until it catches up.
+ */
+public class DataSourcePools implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePools.class);
+
+    @FunctionalInterface
+    public interface LagProbe {
+        long lagMillis(DataSource replica) throws SQLException;
+    }
+
+    public record ReplicaState(boolean up, long lagMillis, String error, Instant checkedAt) {}
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final LagProbe probe;
+    private final long maxLagMillis;
+    private final Map<String, ReplicaState> states = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    public DataSourcePools(DataSource primary, Map<String, DataSource> replicas, LagProbe probe, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+        this.probe = probe;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public static LagProbe sqlLagProbe(String lagQuery) {
+        return replica -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        };
+    }
+
+    public DataSource primary() {
+        return primary;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    public Map<String, ReplicaState> states() {
+        return Map.copyOf(states);
+    }
+
+    /** Round-robin over replicas that are up and within the lag limit. */
+    public Optional<String> pickReplica() {
+        List<String> eligible = new ArrayList<>(replicas.size());
+        for (String name : replicas.keySet()) {
+            ReplicaState state = states.get(name);
+            if (state != null && state.up() && state.lagMillis() <= maxLagMillis) eligible.add(name);
+        }
+        if (eligible.isEmpty()) return Optional.empty();
+        return Optional.of(eligible.get(Math.floorMod(next.getAndIncrement(), eligible.size())));
+    }
+
+    public void refreshHealth() {
+        replicas.forEach((name, replica) -> {
+            ReplicaState previous = states.get(name);
+            ReplicaState current;
+            try {
+                current = new ReplicaState(true, probe.lagMillis(replica), null, Instant.now());
+            } catch (SQLException | RuntimeException ex) {
+                current = new ReplicaState(false, -1, ex.getMessage(), Instant.now());
+            }
+            states.put(name, current);
+            if (previous == null || previous.up() != current.up()) {
+                log.info("Replica {} is {}{}", name, current.up() ? "up" : "down", current.up() ? "" : ": " + current.error());
+            }
+        });
+    }
+
+    public synchronized void start(Duration interval) {
+        if (scheduler != null || replicas.isEmpty()) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refreshHealth, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) scheduler.shutdownNow();
+        closeQuietly(primary);
+        replicas.values().forEach(DataSourcePools::closeQuietly);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ex) {
+                log.warn("Could not close pool: {}", ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.shrey.hotel.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Remembers who wrote recently so their reads stay on the primary until replicas have had
+ * time to catch up. Writers are keyed by authenticated principal only: anonymous requests
+ * never stick, because behind a proxy they share one client address and a single anonymous
+ * write would pin every reader to the primary. Signup names its new account explicitly.
+ */
+public class ReadYourWritesTracker {
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private final Map<String, Long> lastWrite = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis, LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    public void recordWrite() {
+        String principal = currentPrincipal();
+        if (principal != null) recordWrite(principal);
+    }
+
+    // For writes made on behalf of someone who is not signed in yet (signup)
+    public void recordWrite(String principal) {
+        long now = clock.getAsLong();
+        lastWrite.put(principal, now);
+        if (lastWrite.size() > PRUNE_THRESHOLD) {
+            lastWrite.values().removeIf(at -> now - at >= windowMillis);
+        }
+    }
+
+    public boolean isSticky() {
+        String principal = currentPrincipal();
+        if (principal == null) return false;
+        Long at = lastWrite.get(principal);
+        return at != null && clock.getAsLong() - at < windowMillis;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
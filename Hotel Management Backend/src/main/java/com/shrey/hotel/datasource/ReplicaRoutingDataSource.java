@@ -0,0 +1,70 @@
+package com.shrey.hotel.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends read-only transactions to a healthy, caught-up replica and everything else to the
+ * primary. Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag is
+ * only set after the transaction manager has asked for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String ROUTE_METER = "hotel.datasource.route";
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSourcePools pools;
+    private final ReadYourWritesTracker tracker;
+    private final MeterRegistry registry;
+
+    public ReplicaRoutingDataSource(DataSourcePools pools, ReadYourWritesTracker tracker, MeterRegistry registry) {
+        this.pools = pools;
+        this.tracker = tracker;
+        this.registry = registry;
+        Map<Object, Object> targets = new HashMap<>(pools.replicas());
+        targets.put(DataSourcePools.PRIMARY, pools.primary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.primary());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Runs {@code work} with its read-only transactions on the primary. For reads whose result
+     * outlives the request, e.g. a rendered page cached under a catalog version: a lagging replica
+     * would cache pre-write rows under the post-write version for everyone.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        if (PRIMARY_ONLY.get() != null) return work.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) tracker.recordWrite();
+            return route(DataSourcePools.PRIMARY, "write");
+        }
+        if (PRIMARY_ONLY.get() != null) return route(DataSourcePools.PRIMARY, "pinned");
+        if (tracker.isSticky()) return route(DataSourcePools.PRIMARY, "sticky");
+        return pools.pickReplica()
+                .map(replica -> route(replica, "read"))
+                .orElseGet(() -> route(DataSourcePools.PRIMARY, "no-replica"));
+    }
+
+    private String route(String target, String reason) {
+        registry.counter(ROUTE_METER, "target", target, "reason", reason).increment();
+        return target;
+    }
+}
@@ -0,0 +1,40 @@
+package com.shrey.hotel.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * {@code app.datasource.routing.*}: replica pools for read-only transactions. The primary
+ * keeps using {@code spring.datasource.*} and {@code spring.datasource.hikari.*}.
+ */
+@ConfigurationProperties("app.datasource.routing")
+public record RoutingProperties(
+        boolean enabled,
+        List<Replica> replicas,
+        Duration maxLag,
+        Duration healthCheckInterval,
+        Duration stickyWindow,
+        int replicaPoolSize,
+        String lagQuery) {
+
+    // Zero while the replica has replayed everything it received, else age of the last replayed commit
+    public static final String DEFAULT_LAG_QUERY = """
+            select case
+                     when not pg_is_in_recovery() then 0
+                     when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+                     else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+                   end""";
+
+    public RoutingProperties {
+        replicas = replicas == null ? List.of() : List.copyOf(replicas);
+        maxLag = maxLag == null ? Duration.ofSeconds(1) : maxLag;
+        healthCheckInterval = healthCheckInterval == null ? Duration.ofSeconds(2) : healthCheckInterval;
+        stickyWindow = stickyWindow == null ? Duration.ofSeconds(5) : stickyWindow;
+        replicaPoolSize = replicaPoolSize <= 0 ? 10 : replicaPoolSize;
+        lagQuery = lagQuery == null || lagQuery.isBlank() ? DEFAULT_LAG_QUERY : lagQuery;
+    }
+
+    public record Replica(String url, String username, String password) {}
+}
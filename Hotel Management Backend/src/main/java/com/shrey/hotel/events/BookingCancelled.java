@@ -0,0 +1,15 @@
+package com.shrey.hotel.events;
+
+import java.math.BigDecimal;
+
+import com.shrey.hotel.model.Booking;
+
+public record BookingCancelled(Long bookingId, String email, int roomCount, BigDecimal total) implements DomainEvent {
+
+    public static BookingCancelled of(Booking booking) {
+        return new BookingCancelled(booking.getId(),
+                booking.getUser() == null ? null : booking.getUser().getEmail(),
+                booking.getRooms() == null ? 0 : booking.getRooms().size(),
+                booking.getTotalAmount());
+    }
+}
@@ -0,0 +1,6 @@
+package com.shrey.hotel.events;
+
+import java.time.LocalDate;
+
+// Published by BookingLifecycle when a confirmed stay has checked out
+public record BookingCompleted(Long bookingId, Long userId, LocalDate checkOut) implements DomainEvent {}
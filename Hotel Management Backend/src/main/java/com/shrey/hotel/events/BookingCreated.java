@@ -0,0 +1,28 @@
+package com.shrey.hotel.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+
+// roomTypes is aligned with roomNumbers
+public record BookingCreated(Long bookingId, String email, List<Integer> roomNumbers, List<String> roomTypes,
+                             List<String> foodNames, LocalDate checkIn, LocalDate checkOut,
+                             BigDecimal total, BookingStatus status, LocalDateTime createdAt) implements DomainEvent {
+
+    public static BookingCreated of(Booking booking) {
+        List<Room> rooms = booking.getRooms() == null ? List.of() : booking.getRooms();
+        return new BookingCreated(booking.getId(),
+                booking.getUser() == null ? null : booking.getUser().getEmail(),
+                rooms.stream().map(Room::getRoomNumber).toList(),
+                rooms.stream().map(Room::getRoomType).toList(),
+                booking.getFoodItems() == null ? List.of() : booking.getFoodItems().stream().map(FoodItem::getName).toList(),
+                booking.getCheckInDate(), booking.getCheckOutDate(),
+                booking.getTotalAmount(), booking.getStatus(), booking.getCreatedAt());
+    }
+}
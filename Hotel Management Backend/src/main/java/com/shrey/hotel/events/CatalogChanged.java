@@ -0,0 +1,6 @@
+package com.shrey.hotel.events;
+
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+
+// Published after the catalog cache has been invalidated for the write
+public record CatalogChanged(Catalog catalog) implements DomainEvent {}
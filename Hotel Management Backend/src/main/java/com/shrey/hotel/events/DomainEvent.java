@@ -0,0 +1,7 @@
+package com.shrey.hotel.events;
+
+/**
+ * Something that happened in the domain. Events are immutable snapshots of the data their
+ * consumers need, so a consumer never touches a JPA entity from its own thread.
+ */
+public sealed interface DomainEvent permits BookingCreated, BookingCancelled, BookingCompleted, RoomPriceChanged, RoomAvailabilityChanged, CatalogChanged {}
@@ -0,0 +1,152 @@
+package com.shrey.hotel.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.shrey.hotel.observability.HotelMetrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process event bus on a pre-allocated ring of slots (Disruptor style). A publisher claims
+ * the next sequence, writes the slot and marks it published; that slot has exactly one writer,
+ * and each consumer's sequence is written only by that consumer's thread. Consumers take every
+ * published event up to the cursor as one batch, so a busy consumer catches up in large
+ * batches instead of waking per event.
+ *
+ * <p>The ring never drops: a publisher that laps the slowest consumer waits for it. Lag per
+ * consumer is exported as {@code hotel.events.lag}.
+ */
+@Component
+public class DomainEventBus {
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DomainEvent[] slots;
+    private final AtomicLongArray published; // sequence last written to each slot
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final List<Worker> workers = new ArrayList<>();
+    private final HotelMetrics metrics;
+
+    public DomainEventBus(List<DomainEventConsumer> consumers, HotelMetrics metrics,
+                          @Value("${app.events.ring-size:4096}") int ringSize) {
+        int size = Integer.highestOneBit(Math.max(2, ringSize) - 1) << 1;
+        this.slots = new DomainEvent[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) published.set(i, -1);
+        this.mask = size - 1;
+        this.metrics = metrics;
+        for (DomainEventConsumer consumer : consumers) {
+            Worker worker = new Worker(consumer);
+            workers.add(worker);
+            metrics.registerEventConsumer(consumer.name(), worker, w -> claimed.get() - w.sequence);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Worker worker : workers) worker.thread.start();
+    }
+
+    // Consumers drain what was already published, then exit
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Worker worker : workers) {
+            worker.running = false;
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : workers) worker.thread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /** Publishes now, or after commit when called inside a transaction (nothing is published on rollback). */
+    public void publish(DomainEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(event);
+                }
+            });
+        } else {
+            publishNow(event);
+        }
+    }
+
+    void publishNow(DomainEvent event) {
+        long sequence = claimed.incrementAndGet();
+        long wrapPoint = sequence - slots.length;
+        while (wrapPoint > slowestConsumer()) {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        int index = (int) sequence & mask;
+        slots[index] = event;
+        published.set(index, sequence); // volatile write: makes the slot visible to consumers
+        for (Worker worker : workers) {
+            if (worker.waiting) LockSupport.unpark(worker.thread);
+        }
+    }
+
+    private long slowestConsumer() {
+        long min = Long.MAX_VALUE;
+        for (Worker worker : workers) min = Math.min(min, worker.sequence);
+        return min;
+    }
+
+    private final class Worker implements Runnable {
+        private final DomainEventConsumer consumer;
+        private final Thread thread;
+        private volatile long sequence = -1; // last event handled; slots up to here may be reused
+        private volatile boolean waiting;
+        private volatile boolean running = true;
+
+        private Worker(DomainEventConsumer consumer) {
+            this.consumer = consumer;
+            this.thread = new Thread(this, "events-" + consumer.name());
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence + 1;
+            while (true) {
+                long available = next - 1;
+                while (published.get((int) (available + 1) & mask) == available + 1) available++;
+                if (available < next) {
+                    if (!running) return;
+                    waiting = true;
+                    // Re-check after announcing: a publisher either sees waiting or we see its slot
+                    if (published.get((int) next & mask) != next && running) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    waiting = false;
+                    continue;
+                }
+                long failed = 0;
+                for (long s = next; s <= available; s++) {
+                    DomainEvent event = slots[(int) s & mask];
+                    try {
+                        consumer.onEvent(event, s, s == available);
+                    } catch (Exception ex) {
+                        failed++;
+                        log.warn("Consumer {} failed on {}: {}", consumer.name(), event.getClass().getSimpleName(), ex.toString());
+                    }
+                }
+                metrics.eventsHandled(consumer.name(), available - next + 1 - failed, failed);
+                sequence = available;
+                next = available + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.shrey.hotel.events;
+
+/**
+ * A consumer of the {@link DomainEventBus}. Each consumer bean gets its own thread and sees
+ * every event in publish order; {@code endOfBatch} marks the last event currently available,
+ * which is the place to flush anything buffered. A thrown exception is counted and the
+ * consumer moves on to the next event.
+ */
+public interface DomainEventConsumer {
+
+    String name();
+
+    void onEvent(DomainEvent event, long sequence, boolean endOfBatch) throws Exception;
+}
@@ -0,0 +1,29 @@
+package com.shrey.hotel.events;
+
+import org.springframework.stereotype.Component;
+
+import com.shrey.hotel.service.EmailService;
+
+// Booking confirmations and cancellations, sent off the request thread
+@Component
+public class EmailEventConsumer implements DomainEventConsumer {
+    private final EmailService emailService;
+
+    public EmailEventConsumer(EmailService emailService) {
+        this.emailService = emailService;
+    }
+
+    @Override
+    public String name() {
+        return "email";
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof BookingCreated created) {
+            emailService.sendBookingConfirmation(created);
+        } else if (event instanceof BookingCancelled cancelled) {
+            emailService.sendBookingCancellation(cancelled);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.shrey.hotel.events;
+
+import com.shrey.hotel.model.Room;
+
+public record RoomAvailabilityChanged(Long roomId, Integer roomNumber, String roomType, boolean available) implements DomainEvent {
+
+    public static RoomAvailabilityChanged of(Room room) {
+        return new RoomAvailabilityChanged(room.getId(), room.getRoomNumber(), room.getRoomType(), Boolean.TRUE.equals(room.getAvailable()));
+    }
+}
@@ -0,0 +1,8 @@
+package com.shrey.hotel.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// effectiveFrom is null when the flat price changed immediately, else the start of a new rate period for roomType
+public record RoomPriceChanged(Long roomId, String roomType, BigDecimal oldPrice, BigDecimal newPrice,
+                               LocalDate effectiveFrom) implements DomainEvent {}
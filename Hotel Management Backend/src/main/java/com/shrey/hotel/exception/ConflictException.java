@@ -0,0 +1,9 @@
+package com.shrey.hotel.exception;
+
+// The request is valid but clashes with current state, e.g. an overlapping stay (409)
+public final class ConflictException extends DomainException {
+
+    public ConflictException(String message) {
+        super(Kind.CONFLICT, message);
+    }
+}
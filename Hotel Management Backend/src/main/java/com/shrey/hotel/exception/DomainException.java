@@ -0,0 +1,51 @@
+package com.shrey.hotel.exception;
+
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Expected failures of a request: a missing row, a conflicting booking, input the domain rejects. They are
+ * control flow, not bugs, so they carry no stack trace (capturing one dominates the cost of throwing) and
+ * GlobalExceptionHandler answers them as RFC 7807 problems without logging. Anything else still reaches the
+ * generic handler as a 500 with its trace logged.
+ */
+public abstract sealed class DomainException extends RuntimeException
+        permits NotFoundException, ConflictException, ValidationException {
+
+    // The fixed parts of each problem response; only the detail varies per throw
+    public enum Kind {
+        NOT_FOUND(HttpStatus.NOT_FOUND, "not-found", "Resource not found"),
+        CONFLICT(HttpStatus.CONFLICT, "conflict", "Conflicting state"),
+        VALIDATION(HttpStatus.BAD_REQUEST, "validation", "Invalid request");
+
+        private final HttpStatus status;
+        private final URI type;
+        private final String title;
+        private final String tag;
+
+        Kind(HttpStatus status, String slug, String title) {
+            this.status = status;
+            this.type = URI.create("urn:hotel:problem:" + slug);
+            this.title = title;
+            this.tag = slug.replace('-', '_');
+        }
+
+        public HttpStatus status() { return status; }
+        public URI type() { return type; }
+        public String title() { return title; }
+        /** Metric tag value, e.g. not_found. */
+        public String tag() { return tag; }
+    }
+
+    private final Kind kind;
+
+    protected DomainException(Kind kind, String message) {
+        super(message, null, false, false);
+        this.kind = kind;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+}
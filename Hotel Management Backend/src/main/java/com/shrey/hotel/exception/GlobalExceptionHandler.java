@@ -7,19 +7,43 @@ import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.shrey.hotel.observability.HotelMetrics;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    private final HotelMetrics metrics;
+
+    public GlobalExceptionHandler(HotelMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Expected outcomes: no stack trace to log, just the problem response and a counter
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ProblemDetail> handleDomain(DomainException ex) {
+        DomainException.Kind kind = ex.kind();
+        metrics.requestError(kind.tag());
+        log.debug("{}: {}", kind, ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(kind.status(), ex.getMessage());
+        problem.setType(kind.type());
+        problem.setTitle(kind.title());
+        // Existing clients read the message from "error"
+        problem.setProperty("error", ex.getMessage());
+        return ResponseEntity.status(kind.status()).body(problem);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
+        metrics.requestError(DomainException.Kind.VALIDATION.tag());
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", Instant.now().toString());
         body.put("status", HttpStatus.BAD_REQUEST.value());
@@ -34,12 +58,14 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, Object>> handleIllegalArgument(IllegalArgumentException ex) {
+        metrics.requestError(DomainException.Kind.VALIDATION.tag());
         return buildSimple(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
     @ExceptionHandler(org.springframework.web.servlet.resource.NoResourceFoundException.class)
     public ResponseEntity<Map<String, Object>> handleNoResourceFound(
             org.springframework.web.servlet.resource.NoResourceFoundException ex) {
+        metrics.requestError(DomainException.Kind.NOT_FOUND.tag());
         Map<String, Object> body = new HashMap<>();
         body.put("timestamp", Instant.now().toString());
         body.put("status", HttpStatus.NOT_FOUND.value());
@@ -50,6 +76,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGeneric(Exception ex) {
+        metrics.requestError("unexpected");
         log.error("Unhandled exception occurred", ex);
         return buildSimple(HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error");
     }
@@ -0,0 +1,9 @@
+package com.shrey.hotel.exception;
+
+// A row the request names does not exist (404)
+public final class NotFoundException extends DomainException {
+
+    public NotFoundException(String message) {
+        super(Kind.NOT_FOUND, message);
+    }
+}
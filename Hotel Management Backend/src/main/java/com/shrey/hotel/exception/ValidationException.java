@@ -0,0 +1,9 @@
+package com.shrey.hotel.exception;
+
+// Well-formed input the domain refuses, e.g. a stay over the length limit (400)
+public final class ValidationException extends DomainException {
+
+    public ValidationException(String message) {
+        super(Kind.VALIDATION, message);
+    }
+}
@@ -4,11 +4,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.PartitionKey;
+
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -19,23 +26,26 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PostLoad;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "bookings")
 public class Booking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // bookings is partitioned (V10): the join tables' booking_id is checked by triggers, not a foreign key
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "booking_rooms",
-        joinColumns = @JoinColumn(name = "booking_id"),
+        joinColumns = @JoinColumn(name = "booking_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)),
         inverseJoinColumns = @JoinColumn(name = "room_id")
     )
     private List<Room> rooms;
@@ -43,7 +53,7 @@ public class Booking {
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "booking_food_items",
-        joinColumns = @JoinColumn(name = "booking_id"),
+        joinColumns = @JoinColumn(name = "booking_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)),
         inverseJoinColumns = @JoinColumn(name = "food_item_id")
     )
     private List<FoodItem> foodItems;
@@ -51,7 +61,9 @@ public class Booking {
     @Column(name = "food_quantities")
     private String foodQuantities; // JSON: {"1": 2, "3": 1} or Map in separate table
 
-    @Column(name = "check_in_date")
+    // Partition key of bookings (never null once saved): Hibernate adds it to entity UPDATE/DELETE so they prune
+    @PartitionKey
+    @Column(name = "check_in_date", nullable = false, updatable = false)
     private java.time.LocalDate checkInDate;
 
     @Column(name = "check_out_date")
@@ -74,6 +86,7 @@ public class Booking {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (checkInDate == null) checkInDate = createdAt.toLocalDate();
     }
 
     @PreUpdate
@@ -89,43 +102,21 @@ public class Booking {
         }
     }
 
+    private static final com.fasterxml.jackson.databind.ObjectMapper QUANTITY_READER = new com.fasterxml.jackson.databind.ObjectMapper();
+
     private void recalculateTotalAmount() {
-        BigDecimal total = BigDecimal.ZERO;
-        
-        // Calculate room charges (room price * number of nights)
-        if (checkInDate != null && checkOutDate != null && rooms != null) {
-            long nights = java.time.temporal.ChronoUnit.DAYS.between(checkInDate, checkOutDate);
-            if (nights <= 0) nights = 1;
-            for (Room room : rooms) {
-                if (room != null && room.getPricePerNight() != null) {
-                    total = total.add(room.getPricePerNight().multiply(BigDecimal.valueOf(nights)));
-                }
-            }
-        }
-        
-        // Calculate food charges
-        if (foodItems != null) {
-            java.util.Map<Long, Integer> quantities = new java.util.HashMap<>();
-            if (foodQuantities != null && !foodQuantities.isEmpty()) {
-                try {
-                    // Parse JSON quantities if present
-                    var mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                    quantities = mapper.readValue(foodQuantities, 
-                        new com.fasterxml.jackson.core.type.TypeReference<java.util.Map<Long, Integer>>() {});
-                } catch (Exception e) {
-                    // Fallback to 1 for each item if parsing fails
-                }
-            }
-            
-            for (FoodItem food : foodItems) {
-                if (food != null && food.getPrice() != null) {
-                    int qty = quantities.getOrDefault(food.getId(), 1);
-                    total = total.add(food.getPrice().multiply(BigDecimal.valueOf(qty)));
-                }
+        // Parse JSON quantities if present; items without one count once
+        java.util.Map<Long, Integer> quantities = null;
+        if (foodItems != null && foodQuantities != null && !foodQuantities.isEmpty()) {
+            try {
+                quantities = QUANTITY_READER.readValue(foodQuantities,
+                    new com.fasterxml.jackson.core.type.TypeReference<java.util.Map<Long, Integer>>() {});
+            } catch (Exception e) {
+                // Fallback to 1 for each item if parsing fails
             }
         }
-        
-        this.totalAmount = total;
+        long nights = PricingEngine.nights(checkInDate, checkOutDate);
+        this.totalAmount = Money.toDecimal(PricingEngine.stayTotal(rooms, nights, foodItems, quantities, 1));
     }
 
     public Booking() {}
@@ -2,18 +2,22 @@ package com.shrey.hotel.model;
 
 import java.math.BigDecimal;
 
+import com.shrey.hotel.pricing.MinorPrice;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "food_items")
 public class FoodItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "food_items_seq")
+    @SequenceGenerator(name = "food_items_seq", sequenceName = "food_items_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,6 +31,10 @@ public class FoodItem {
 
     @Column(name = "image_url")
     private String imageUrl;
+
+    // Minor-unit price for PricingEngine; not persisted, recomputed when price is replaced
+    private transient MinorPrice cachedPrice;
+
     public FoodItem() {}
 
     // Getters and setters
@@ -40,4 +48,13 @@ public class FoodItem {
     public void setPrice(BigDecimal price) { this.price = price; }
     public String getImageUrl() { return imageUrl; }
     public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+
+    public long priceMinor() {
+        MinorPrice cached = cachedPrice;
+        if (cached == null || cached.source() != price) {
+            cached = MinorPrice.of(price);
+            cachedPrice = cached;
+        }
+        return cached.minor();
+    }
 }
@@ -2,11 +2,14 @@ package com.shrey.hotel.model;
 
 import java.math.BigDecimal;
 
+import com.shrey.hotel.pricing.MinorPrice;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
@@ -14,7 +17,8 @@ import jakarta.persistence.Version;
 @Table(name = "rooms")
 public class Room {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -32,6 +36,9 @@ public class Room {
     @Version
     private Long version; // Optimistic locking for concurrent bookings
 
+    // Minor-unit price for PricingEngine; not persisted, recomputed when pricePerNight is replaced
+    private transient MinorPrice cachedPrice;
+
     public Room() {}
 
     // Getters and setters
@@ -59,4 +66,13 @@ public class Room {
     public synchronized void releaseRoom() {
         this.available = true;
     }
+
+    public long pricePerNightMinor() {
+        MinorPrice cached = cachedPrice;
+        if (cached == null || cached.source() != pricePerNight) {
+            cached = MinorPrice.of(pricePerNight);
+            cachedPrice = cached;
+        }
+        return cached.minor();
+    }
 }
@@ -0,0 +1,77 @@
+package com.shrey.hotel.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+// One rate period for a room type: nights in [effectiveFrom, effectiveTo) cost weekdayRate or weekendRate
+@Entity
+@Table(name = "room_rates")
+public class RoomRate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "room_rates_seq")
+    @SequenceGenerator(name = "room_rates_seq", sequenceName = "room_rates_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "room_type", nullable = false)
+    private String roomType;
+
+    @Column(name = "effective_from", nullable = false)
+    private LocalDate effectiveFrom;
+
+    @Column(name = "effective_to")
+    private LocalDate effectiveTo; // exclusive; null = open-ended
+
+    @Column(name = "weekday_rate", nullable = false)
+    private BigDecimal weekdayRate;
+
+    @Column(name = "weekend_rate", nullable = false)
+    private BigDecimal weekendRate;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public RoomRate() {}
+
+    public RoomRate(String roomType, LocalDate effectiveFrom, LocalDate effectiveTo, BigDecimal weekdayRate, BigDecimal weekendRate) {
+        this.roomType = roomType;
+        this.effectiveFrom = effectiveFrom;
+        this.effectiveTo = effectiveTo;
+        this.weekdayRate = weekdayRate;
+        this.weekendRate = weekendRate;
+    }
+
+    // Getters and setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getRoomType() { return roomType; }
+    public void setRoomType(String roomType) { this.roomType = roomType; }
+    public LocalDate getEffectiveFrom() { return effectiveFrom; }
+    public void setEffectiveFrom(LocalDate effectiveFrom) { this.effectiveFrom = effectiveFrom; }
+    public LocalDate getEffectiveTo() { return effectiveTo; }
+    public void setEffectiveTo(LocalDate effectiveTo) { this.effectiveTo = effectiveTo; }
+    public BigDecimal getWeekdayRate() { return weekdayRate; }
+    public void setWeekdayRate(BigDecimal weekdayRate) { this.weekdayRate = weekdayRate; }
+    public BigDecimal getWeekendRate() { return weekendRate; }
+    public void setWeekendRate(BigDecimal weekendRate) { this.weekendRate = weekendRate; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    // Does this period cover the night starting on date?
+    public boolean covers(LocalDate date) {
+        return !date.isBefore(effectiveFrom) && (effectiveTo == null || date.isBefore(effectiveTo));
+    }
+}
@@ -0,0 +1,59 @@
+package com.shrey.hotel.observability;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Lets an incoming {@code X-Correlation-Id} become the trace id, so the id a client logs is the
+ * id to search for in the trace file. Runs alongside W3C propagation: a {@code traceparent}
+ * header wins, and ids that are not 32 hex digits (dashes ignored, so UUIDs work) are left alone.
+ * A caller that supplies its own id is asking to follow that request, so it is marked sampled.
+ */
+public class CorrelationIdPropagator implements TextMapPropagator {
+    public static final String HEADER = "X-Correlation-Id";
+
+    @Override
+    public Collection<String> fields() {
+        return List.of(HEADER);
+    }
+
+    @Override
+    public <C> void inject(Context context, C carrier, TextMapSetter<C> setter) {
+        SpanContext spanContext = Span.fromContext(context).getSpanContext();
+        if (spanContext.isValid() && setter != null) {
+            setter.set(carrier, HEADER, spanContext.getTraceId());
+        }
+    }
+
+    @Override
+    public <C> Context extract(Context context, C carrier, TextMapGetter<C> getter) {
+        if (Span.fromContext(context).getSpanContext().isValid()) return context;
+        String correlationId = getter.get(carrier, HEADER);
+        if (correlationId == null) return context;
+        String traceId = correlationId.replace("-", "").toLowerCase(Locale.ROOT);
+        if (!TraceId.isValid(traceId)) return context;
+        SpanContext remote = SpanContext.createFromRemoteParent(traceId, randomSpanId(), TraceFlags.getSampled(), TraceState.getDefault());
+        return context.with(Span.wrap(remote));
+    }
+
+    private static String randomSpanId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return SpanId.fromLong(id);
+    }
+}
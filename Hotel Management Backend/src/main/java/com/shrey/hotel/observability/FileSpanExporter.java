@@ -0,0 +1,101 @@
+package com.shrey.hotel.observability;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Appends finished spans to a JSON-lines file, one span per line. Group by {@code traceId}
+ * (e.g. {@code jq 'select(.traceId=="...")'}) to see where a request spent its time.
+ */
+public class FileSpanExporter implements SpanExporter {
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final Path path;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private BufferedWriter writer;
+
+    public FileSpanExporter(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            BufferedWriter out = writer();
+            for (SpanData span : spans) {
+                out.write(objectMapper.writeValueAsString(toJson(span)));
+                out.newLine();
+            }
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            log.warn("Could not write {} spans to {}: {}", spans.size(), path, ex.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (writer != null) writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            if (writer != null) writer.close();
+            writer = null;
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private BufferedWriter writer() throws IOException {
+        if (writer == null) {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.info("Writing trace spans to {}", path);
+        }
+        return writer;
+    }
+
+    private static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        json.put("parentSpanId", span.getParentSpanContext().isValid() ? span.getParentSpanId() : null);
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochNanos", span.getStartEpochNanos());
+        json.put("durationMs", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000_000.0);
+        json.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        json.put("attributes", attributes);
+        if (!span.getEvents().isEmpty()) {
+            json.put("events", span.getEvents().stream().map(event -> event.getName()).toList());
+        }
+        return json;
+    }
+}
@@ -0,0 +1,178 @@
+package com.shrey.hotel.observability;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Domain meters for the request hot paths. Meter names are kept here so dashboards and
+ * the perf endpoint agree on them; callers only say what happened.
+ */
+@Component
+public class HotelMetrics {
+
+    public static final String BOOKING_CREATE = "hotel.booking.create";
+    public static final String CART_MUTATION = "hotel.cart.mutation";
+    public static final String JWT_VERIFY = "hotel.jwt.verify";
+    public static final String EMAIL_DISPATCH = "hotel.email.dispatch";
+    public static final String PASSWORD_HASH = "hotel.auth.password.hash";
+    public static final String CACHE_REQUESTS = "hotel.cache.requests";
+    public static final String CACHE_SIZE = "hotel.cache.size";
+    public static final String CONNECTION_HOLD = "hotel.db.connection.hold";
+    public static final String EVENTS_LAG = "hotel.events.lag";
+    public static final String EVENTS_HANDLED = "hotel.events.handled";
+    public static final String BOOKINGS_ARCHIVED = "hotel.bookings.archived";
+    public static final String BOOKING_SEARCH = "hotel.booking.search";
+    public static final String REQUEST_ERRORS = "hotel.request.errors";
+
+    private final MeterRegistry registry;
+    private final Map<String, CacheMeters> caches = new ConcurrentHashMap<>();
+
+    public HotelMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry registry() {
+        return registry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void bookingCreated(Timer.Sample sample, String outcome) {
+        sample.stop(timer(BOOKING_CREATE, "Booking creation including pricing and persistence", "outcome", outcome));
+    }
+
+    /** criteria names the filters used (e.g. "email+status"), so slow filter combinations stand out. */
+    public void bookingSearch(Timer.Sample sample, String criteria) {
+        sample.stop(timer(BOOKING_SEARCH, "Admin booking search", "criteria", criteria));
+    }
+
+    public <T> T cartMutation(String operation, Supplier<T> mutation) {
+        return timer(CART_MUTATION, "Cart add/remove including total recalculation", "operation", operation).record(mutation);
+    }
+
+    public void jwtVerified(Timer.Sample sample, String result) {
+        sample.stop(timer(JWT_VERIFY, "Bearer token verification in the authentication filter", "result", result));
+    }
+
+    public void emailDispatched(Timer.Sample sample, String type, String outcome) {
+        sample.stop(Timer.builder(EMAIL_DISPATCH)
+                .description("Synchronous SMTP send")
+                .tags("type", type, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    public <T> T passwordHash(String operation, Supplier<T> hashing) {
+        return timer(PASSWORD_HASH, "BCrypt encode/verify", "operation", operation).record(hashing);
+    }
+
+    /** Checkout-to-close time of one JDBC connection, tagged with the route that held it. */
+    public void connectionHeld(long nanos) {
+        timer(CONNECTION_HOLD, "JDBC connection hold time per endpoint", "endpoint", currentEndpoint())
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Registers a size gauge for an in-memory cache; hits and misses are reported via {@link #cacheHit}/{@link #cacheMiss}. */
+    public <T> void registerCache(String name, T cache, ToDoubleFunction<T> size) {
+        Gauge.builder(CACHE_SIZE, cache, size)
+                .description("Entries held by an in-memory cache")
+                .tag("cache", name)
+                .register(registry);
+        caches.computeIfAbsent(name, CacheMeters::new);
+    }
+
+    public void cacheHit(String name) {
+        caches.computeIfAbsent(name, CacheMeters::new).hits.increment();
+    }
+
+    public void cacheMiss(String name) {
+        caches.computeIfAbsent(name, CacheMeters::new).misses.increment();
+    }
+
+    /** Lag gauge (events published but not yet handled) for one domain event consumer. */
+    public <T> void registerEventConsumer(String consumer, T state, ToDoubleFunction<T> lag) {
+        Gauge.builder(EVENTS_LAG, state, lag)
+                .description("Domain events published but not yet handled by a consumer")
+                .tag("consumer", consumer)
+                .register(registry);
+    }
+
+    public void eventsHandled(String consumer, long handled, long failed) {
+        if (handled > 0) Counter.builder(EVENTS_HANDLED).tags("consumer", consumer, "outcome", "handled").register(registry).increment(handled);
+        if (failed > 0) Counter.builder(EVENTS_HANDLED).tags("consumer", consumer, "outcome", "failed").register(registry).increment(failed);
+    }
+
+    public void bookingsArchived(long count) {
+        if (count > 0) Counter.builder(BOOKINGS_ARCHIVED).register(registry).increment(count);
+    }
+
+    /** One request answered with an error, tagged with its route and type (not_found, conflict, validation, unexpected). */
+    public void requestError(String type) {
+        Counter.builder(REQUEST_ERRORS)
+                .description("Requests answered with an error response")
+                .tags("endpoint", currentEndpoint(), "type", type)
+                .register(registry)
+                .increment();
+    }
+
+    /** Size, hits, misses and hit ratio per registered cache. */
+    public Map<String, Map<String, Object>> cacheSummary() {
+        Map<String, Map<String, Object>> summary = new TreeMap<>();
+        caches.forEach((name, meters) -> {
+            Gauge size = registry.find(CACHE_SIZE).tag("cache", name).gauge();
+            double hits = meters.hits.count();
+            double misses = meters.misses.count();
+            Map<String, Object> entry = new TreeMap<>();
+            entry.put("size", size == null ? 0 : (long) size.value());
+            entry.put("hits", (long) hits);
+            entry.put("misses", (long) misses);
+            entry.put("hitRatio", hits + misses == 0 ? 0.0 : hits / (hits + misses));
+            summary.put(name, entry);
+        });
+        return summary;
+    }
+
+    // Route template, not the raw URI, to keep tag cardinality bounded
+    private static String currentEndpoint() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return "none"; // startup, schedulers, background threads
+        }
+        Object pattern = attributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return attributes.getRequest().getMethod() + " " + (pattern == null ? "(filters)" : pattern);
+    }
+
+    // Micrometer caches meters by id, so repeated builder calls are cheap lookups
+    private Timer timer(String name, String description, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private final class CacheMeters {
+        private final Counter hits;
+        private final Counter misses;
+
+        private CacheMeters(String name) {
+            this.hits = Counter.builder(CACHE_REQUESTS).tags("cache", name, "result", "hit").register(registry);
+            this.misses = Counter.builder(CACHE_REQUESTS).tags("cache", name, "result", "miss").register(registry);
+        }
+    }
+}
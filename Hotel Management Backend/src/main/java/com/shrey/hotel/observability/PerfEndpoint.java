@@ -0,0 +1,137 @@
+package com.shrey.hotel.observability;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * {@code /actuator/perf}: connection pool saturation, lock contention and cache sizes in
+ * a single call, for when a latency alert fires and Grafana is one click too far.
+ */
+@Component
+@Endpoint(id = "perf")
+public class PerfEndpoint {
+
+    private static final int TOP_CONTENDED_THREADS = 5;
+
+    private final MeterRegistry registry;
+    private final HotelMetrics metrics;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    public PerfEndpoint(MeterRegistry registry, HotelMetrics metrics) {
+        this.registry = registry;
+        this.metrics = metrics;
+        if (threads.isThreadContentionMonitoringSupported() && !threads.isThreadContentionMonitoringEnabled()) {
+            threads.setThreadContentionMonitoringEnabled(true);
+        }
+    }
+
+    @ReadOperation
+    public Map<String, Object> perf() {
+        Map<String, Object> perf = new LinkedHashMap<>();
+        perf.put("pools", pools());
+        perf.put("connectionHold", connectionHold());
+        perf.put("contention", contention());
+        perf.put("caches", metrics.cacheSummary());
+        return perf;
+    }
+
+    // Hikari registers its gauges per pool, so this covers every pool without knowing how the DataSource is wrapped
+    private Map<String, Map<String, Object>> pools() {
+        Map<String, Map<String, Object>> pools = new TreeMap<>();
+        for (Gauge max : registry.find("hikaricp.connections.max").gauges()) {
+            String pool = max.getId().getTag("pool");
+            double active = gauge("hikaricp.connections.active", pool);
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("active", (long) active);
+            stats.put("idle", (long) gauge("hikaricp.connections.idle", pool));
+            stats.put("pending", (long) gauge("hikaricp.connections.pending", pool));
+            stats.put("max", (long) max.value());
+            stats.put("saturation", max.value() == 0 ? 0.0 : active / max.value());
+            pools.put(pool, stats);
+        }
+        return pools;
+    }
+
+    // Which routes keep connections checked out longest (hold time includes pool wait)
+    private Map<String, Map<String, Object>> connectionHold() {
+        Map<String, Map<String, Object>> byEndpoint = new TreeMap<>();
+        for (Timer timer : registry.find(HotelMetrics.CONNECTION_HOLD).timers()) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", timer.count());
+            stats.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+            stats.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+            stats.put("totalMs", timer.totalTime(TimeUnit.MILLISECONDS));
+            byEndpoint.put(timer.getId().getTag("endpoint"), stats);
+        }
+        return byEndpoint;
+    }
+
+    private double gauge(String name, String pool) {
+        Gauge gauge = registry.find(name).tag("pool", pool).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private Map<String, Object> contention() {
+        ThreadInfo[] infos = threads.getThreadInfo(threads.getAllThreadIds(), 0);
+        long blocked = 0;
+        long waiting = 0;
+        long blockedCount = 0;
+        long blockedTimeMs = 0;
+        List<ThreadInfo> live = new ArrayList<>();
+        for (ThreadInfo info : infos) {
+            if (info == null) continue;
+            live.add(info);
+            switch (info.getThreadState()) {
+                case BLOCKED -> blocked++;
+                case WAITING, TIMED_WAITING -> waiting++;
+                default -> { }
+            }
+            blockedCount += info.getBlockedCount();
+            if (info.getBlockedTime() > 0) blockedTimeMs += info.getBlockedTime();
+        }
+
+        Map<String, Object> contention = new LinkedHashMap<>();
+        contention.put("threads", live.size());
+        contention.put("blockedNow", blocked);
+        contention.put("waitingNow", waiting);
+        contention.put("totalBlockedCount", blockedCount);
+        contention.put("totalBlockedTimeMs", threads.isThreadContentionMonitoringEnabled() ? blockedTimeMs : -1);
+        contention.put("deadlockedThreads", deadlocked());
+        contention.put("mostContended", live.stream()
+                .filter(info -> info.getBlockedCount() > 0)
+                .sorted(Comparator.comparingLong(ThreadInfo::getBlockedCount).reversed())
+                .limit(TOP_CONTENDED_THREADS)
+                .map(info -> {
+                    Map<String, Object> thread = new LinkedHashMap<>();
+                    thread.put("name", info.getThreadName());
+                    thread.put("state", info.getThreadState());
+                    thread.put("blockedCount", info.getBlockedCount());
+                    thread.put("blockedTimeMs", info.getBlockedTime());
+                    thread.put("lock", info.getLockName());
+                    return thread;
+                })
+                .toList());
+        return contention;
+    }
+
+    private int deadlocked() {
+        long[] ids = threads.findDeadlockedThreads();
+        return ids == null ? 0 : ids.length;
+    }
+}
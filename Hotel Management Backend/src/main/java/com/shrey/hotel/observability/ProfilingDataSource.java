@@ -0,0 +1,176 @@
+package com.shrey.hotel.observability;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import javax.sql.DataSource;
+
+/**
+ * JDK-proxy wrapper for DataSource, Connection, Statement and ResultSet that feeds
+ * {@link SqlStatsRegistry} and the per-request {@link SqlStatementStats}, and reports how long
+ * each connection was held (checkout to close). {@code unwrap}/{@code isWrapperFor} fall through to the driver, so Hikari metrics
+ * and the Postgres COPY API still find the real objects.
+ */
+public final class ProfilingDataSource {
+
+    private ProfilingDataSource() {}
+
+    /**
+     * The proxy also implements Closeable (or AutoCloseable) when the target does, so a wrapped Hikari pool is still
+     * closed by the bean's inferred destroy method on shutdown.
+     */
+    public static DataSource wrap(DataSource target, SqlStatsRegistry registry, LongConsumer connectionHeldNanos) {
+        List<Class<?>> types = new ArrayList<>(List.of(DataSource.class));
+        if (target instanceof Closeable) types.add(Closeable.class);
+        else if (target instanceof AutoCloseable) types.add(AutoCloseable.class);
+        return (DataSource) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), types.toArray(Class<?>[]::new),
+                new DataSourceHandler(target, registry, connectionHeldNanos));
+    }
+
+    public static boolean isWrapped(DataSource dataSource) {
+        return Proxy.isProxyClass(dataSource.getClass()) && Proxy.getInvocationHandler(dataSource) instanceof DataSourceHandler;
+    }
+
+    private record DataSourceHandler(DataSource target, SqlStatsRegistry registry, LongConsumer connectionHeldNanos) implements InvocationHandler {
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Hold time starts before checkout, so time spent waiting on the pool counts too
+            long checkout = System.nanoTime();
+            Object result = ProfilingDataSource.invoke(proxy, target, method, args);
+            if (result instanceof Connection connection && method.getName().equals("getConnection")) {
+                return wrapConnection(connection, registry, checkout, connectionHeldNanos);
+            }
+            return result;
+        }
+    }
+
+    static Connection wrapConnection(Connection target, SqlStatsRegistry registry, long checkout, LongConsumer connectionHeldNanos) {
+        boolean[] closed = {false};
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            if (method.getName().equals("close") && !closed[0]) {
+                closed[0] = true;
+                try {
+                    return invoke(proxy, target, method, args);
+                } finally {
+                    connectionHeldNanos.accept(System.nanoTime() - checkout);
+                }
+            }
+            Object result = invoke(proxy, target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> new StatementHandler(registry, (String) args[0]).proxy(PreparedStatement.class, (Statement) result);
+                case "prepareCall" -> new StatementHandler(registry, (String) args[0]).proxy(CallableStatement.class, (Statement) result);
+                case "createStatement" -> new StatementHandler(registry, null).proxy(Statement.class, (Statement) result);
+                default -> result;
+            };
+        });
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final SqlStatsRegistry registry;
+        private final String preparedSql;
+        private final List<String> bindShape = new ArrayList<>();
+        private Statement target;
+        private SqlStatsRegistry.Stat stat;
+
+        StatementHandler(SqlStatsRegistry registry, String preparedSql) {
+            this.registry = registry;
+            this.preparedSql = preparedSql;
+        }
+
+        <T extends Statement> T proxy(Class<T> type, Statement statement) {
+            this.target = statement;
+            return ProfilingDataSource.proxy(type, statement, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordBind(index, name, args[1]);
+                return ProfilingDataSource.invoke(proxy, target, method, args);
+            }
+            if (name.equals("clearParameters")) bindShape.clear();
+            if (name.startsWith("execute")) return execute(proxy, method, args);
+            Object result = ProfilingDataSource.invoke(proxy, target, method, args);
+            if (result instanceof ResultSet resultSet && name.equals("getResultSet") && stat != null) {
+                return wrapResultSet(resultSet, stat);
+            }
+            return result;
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            if (sql == null) return ProfilingDataSource.invoke(proxy, target, method, args);
+            stat = registry.statFor(sql);
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = ProfilingDataSource.invoke(proxy, target, method, args);
+                failed = false;
+                if (result instanceof ResultSet resultSet) return wrapResultSet(resultSet, stat);
+                if (result instanceof Integer updated && updated > 0) stat.rows.add(updated);
+                if (result instanceof Long updated && updated > 0) stat.rows.add(updated);
+                if (result instanceof int[] batch) {
+                    for (int updated : batch) if (updated > 0) stat.rows.add(updated);
+                }
+                return result;
+            } finally {
+                long nanos = System.nanoTime() - start;
+                registry.executed(stat, nanos, failed, List.copyOf(bindShape));
+                SqlStatementStats.executed(nanos);
+            }
+        }
+
+        private void recordBind(int index, String setter, Object value) {
+            while (bindShape.size() < index) bindShape.add("?");
+            String shape;
+            if (setter.equals("setNull") || value == null) shape = "null";
+            else if (value instanceof String s) shape = "String(" + s.length() + ")";
+            else shape = value.getClass().getSimpleName();
+            bindShape.set(index - 1, shape);
+        }
+    }
+
+    private static ResultSet wrapResultSet(ResultSet target, SqlStatsRegistry.Stat stat) {
+        return proxy(ResultSet.class, target, (proxy, method, args) -> {
+            Object result = invoke(proxy, target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) stat.rows.increment();
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    // Identity semantics for the proxy itself; everything else goes to the wrapped object
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                if (args != null && args.length == 1) return proxy == args[0];
+                break;
+            case "hashCode":
+                if (args == null) return System.identityHashCode(proxy);
+                break;
+            default:
+                break;
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
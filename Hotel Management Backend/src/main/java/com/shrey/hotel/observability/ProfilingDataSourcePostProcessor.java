@@ -0,0 +1,32 @@
+package com.shrey.hotel.observability;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/** Wraps every DataSource bean in {@link ProfilingDataSource}; opt-in (dev profile), off unless app.sql.stats.enabled=true. */
+@Component
+@ConditionalOnProperty(name = "app.sql.stats.enabled", havingValue = "true")
+public class ProfilingDataSourcePostProcessor implements BeanPostProcessor {
+
+    // Resolved lazily so neither bean is created during post-processor registration
+    private final ObjectProvider<SqlStatsRegistry> registry;
+    private final ObjectProvider<HotelMetrics> metrics;
+
+    public ProfilingDataSourcePostProcessor(ObjectProvider<SqlStatsRegistry> registry, ObjectProvider<HotelMetrics> metrics) {
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !ProfilingDataSource.isWrapped(dataSource)) {
+            return ProfilingDataSource.wrap(dataSource, registry.getObject(), nanos -> metrics.getObject().connectionHeld(nanos));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,42 @@
+package com.shrey.hotel.observability;
+
+/**
+ * Statements issued and JDBC time spent by the current request thread. {@link SqlStatsFilter}
+ * opens a scope per request; {@link ProfilingDataSource} adds every execute to whatever scope
+ * is open (Hibernate and JdbcTemplate alike), so work done outside a request (startup,
+ * schedulers) is simply not counted. A JDBC batch counts as one statement.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+
+    private SqlStatementStats() {}
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void executed(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements++;
+        stats.jdbcNanos += nanos;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public double jdbcMillis() {
+        return jdbcNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.shrey.hotel.observability;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Adds {@code X-SQL-Count} and {@code X-SQL-Time} (ms) to every response outside prod when SQL
+ * statistics are on; the counts come from the profiling DataSource, so without it they'd be 0. Runs
+ * ahead of the security chain so the JWT user lookup is counted too. The body is buffered
+ * so the headers can still be set after serialization has run its lazy loads.
+ */
+@Component
+@Profile("!prod")
+@ConditionalOnProperty(name = "app.sql.stats.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatsFilter extends OncePerRequestFilter {
+    public static final String COUNT_HEADER = "X-SQL-Count";
+    public static final String TIME_HEADER = "X-SQL-Time";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        // Streaming responses can't be buffered
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.toLowerCase(Locale.ROOT).contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            SqlStatementStats.end();
+            wrapped.setHeader(COUNT_HEADER, String.valueOf(stats.statements()));
+            wrapped.setHeader(TIME_HEADER, String.format(Locale.ROOT, "%.3f", stats.jdbcMillis()));
+            log.debug("{} {} sql={} sqlTimeMs={}", request.getMethod(), request.getRequestURI(), stats.statements(), stats.jdbcMillis());
+            wrapped.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.shrey.hotel.observability;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-fingerprint SQL statistics for the whole process: calls, total/max latency, rows and
+ * errors. The table is bounded; once full, unseen fingerprints are folded into one overflow
+ * row so a query with inlined literals can't grow the heap.
+ */
+@Component
+public class SqlStatsRegistry {
+    static final String OVERFLOW = "<other statements>";
+
+    private static final Logger slowLog = LoggerFactory.getLogger("com.shrey.hotel.sql.slow");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_FINGERPRINT_LENGTH = 2000;
+
+    private final Map<String, Stat> stats = new ConcurrentHashMap<>();
+    private final int maxFingerprints;
+    private final long slowThresholdNanos;
+
+    public SqlStatsRegistry(@Value("${app.sql.stats.max-fingerprints:500}") int maxFingerprints,
+                            @Value("${app.sql.slow-query-threshold-ms:200}") long slowThresholdMs) {
+        this.maxFingerprints = maxFingerprints;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000;
+    }
+
+    /** Strips literals and collapses IN-lists and whitespace so equivalent statements share a row. */
+    public static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_FINGERPRINT_LENGTH ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) : normalized;
+    }
+
+    Stat statFor(String sql) {
+        String fingerprint = fingerprint(sql);
+        Stat stat = stats.get(fingerprint);
+        if (stat != null) return stat;
+        if (stats.size() >= maxFingerprints) return stats.computeIfAbsent(OVERFLOW, Stat::new);
+        return stats.computeIfAbsent(fingerprint, Stat::new);
+    }
+
+    void executed(Stat stat, long nanos, boolean failed, List<String> bindShape) {
+        stat.calls.increment();
+        stat.totalNanos.add(nanos);
+        stat.maxNanos.accumulateAndGet(nanos, Math::max);
+        if (failed) stat.errors.increment();
+        if (nanos >= slowThresholdNanos) {
+            // Bind shapes only (types, string lengths); values may be personal data
+            slowLog.warn("Slow SQL {} ms binds={} sql={}", nanos / 1_000_000, bindShape, stat.fingerprint);
+        }
+    }
+
+    /** Top statements ordered by {@code total}, {@code max}, {@code calls} or {@code rows}. */
+    public List<Map<String, Object>> top(int limit, String orderBy) {
+        Comparator<Stat> order = switch (orderBy) {
+            case "max" -> Comparator.comparingLong(s -> s.maxNanos.get());
+            case "calls" -> Comparator.comparingLong(s -> s.calls.sum());
+            case "rows" -> Comparator.comparingLong(s -> s.rows.sum());
+            default -> Comparator.comparingLong(s -> s.totalNanos.sum());
+        };
+        return stats.values().stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .map(Stat::toMap)
+                .toList();
+    }
+
+    public int size() {
+        return stats.size();
+    }
+
+    public void reset() {
+        stats.clear();
+    }
+
+    static final class Stat {
+        final String fingerprint;
+        final LongAdder calls = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder rows = new LongAdder();
+        final LongAdder errors = new LongAdder();
+
+        Stat(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        Map<String, Object> toMap() {
+            long count = calls.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sql", fingerprint);
+            map.put("calls", count);
+            map.put("totalMs", total / 1_000_000.0);
+            map.put("meanMs", count == 0 ? 0.0 : total / 1_000_000.0 / count);
+            map.put("maxMs", maxNanos.get() / 1_000_000.0);
+            map.put("rows", rows.sum());
+            map.put("errors", errors.sum());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.shrey.hotel.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * A price in minor units together with the {@link BigDecimal} it came from, so an entity can
+ * cache the conversion and notice (by identity) when the price has been replaced.
+ */
+public record MinorPrice(BigDecimal source, long minor) {
+
+    public static MinorPrice of(BigDecimal price) {
+        return new MinorPrice(price, Money.toMinor(price));
+    }
+}
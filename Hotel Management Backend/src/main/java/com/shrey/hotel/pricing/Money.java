@@ -0,0 +1,25 @@
+package com.shrey.hotel.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between API/database amounts ({@link BigDecimal}, scale 2) and the {@code long}
+ * minor units (cents/paise) the pricing engine works in. Amounts with more than two decimals
+ * are rounded half-up to the minor unit once, on the way in; everything after that is exact.
+ */
+public final class Money {
+    public static final int SCALE = 2;
+
+    private Money() {}
+
+    // null counts as zero, matching how the old BigDecimal loops skipped missing prices
+    public static long toMinor(BigDecimal amount) {
+        if (amount == null) return 0;
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.shrey.hotel.pricing;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+
+/**
+ * The one place totals are computed: rooms × nights + food × quantity, in {@code long} minor
+ * units. Prices come from the entities' cached minor-unit values and loops index the lists
+ * directly, so pricing a stay allocates nothing; callers convert with {@link Money#toDecimal}
+ * at the API edge. Overflow throws {@link ArithmeticException} rather than wrapping.
+ */
+public final class PricingEngine {
+
+    private PricingEngine() {}
+
+    /** Nights charged for a stay: 0 without both dates (rooms are not charged), otherwise at least 1. */
+    public static long nights(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) return 0;
+        return Math.max(1, ChronoUnit.DAYS.between(checkIn, checkOut));
+    }
+
+    public static long roomCharges(List<Room> rooms, long nights) {
+        if (rooms == null || nights <= 0) return 0;
+        long total = 0;
+        for (int i = 0, n = rooms.size(); i < n; i++) {
+            Room room = rooms.get(i);
+            if (room != null) total = Math.addExact(total, Math.multiplyExact(room.pricePerNightMinor(), nights));
+        }
+        return total;
+    }
+
+    /** Food lines; an item missing from {@code quantities} (or mapped to null) counts {@code defaultQuantity} times. */
+    public static long foodCharges(List<FoodItem> items, Map<Long, Integer> quantities, int defaultQuantity) {
+        if (items == null) return 0;
+        long total = 0;
+        for (int i = 0, n = items.size(); i < n; i++) {
+            FoodItem item = items.get(i);
+            if (item == null) continue;
+            Integer boxed = quantities == null ? null : quantities.get(item.getId());
+            int quantity = boxed != null ? boxed : defaultQuantity;
+            if (quantity < 0) throw new IllegalArgumentException("Quantity must be non-negative");
+            total = Math.addExact(total, Math.multiplyExact(item.priceMinor(), (long) quantity));
+        }
+        return total;
+    }
+
+    public static long stayTotal(List<Room> rooms, long nights, List<FoodItem> items,
+                                 Map<Long, Integer> quantities, int defaultQuantity) {
+        return Math.addExact(roomCharges(rooms, nights), foodCharges(items, quantities, defaultQuantity));
+    }
+}
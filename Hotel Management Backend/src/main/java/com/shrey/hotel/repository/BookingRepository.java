@@ -5,11 +5,68 @@ import com.shrey.hotel.model.BookingStatus;
 import com.shrey.hotel.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Booking.user is lazy and open-in-view is off: anything that serializes or inspects the user fetches it here
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
+    @EntityGraph(attributePaths = "user")
     Page<Booking> findByUser(User user, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
     Page<Booking> findByUserAndStatus(User user, BookingStatus status, Pageable pageable);
+
+    // History limited to check-ins in [from, to): the bounds let Postgres prune the monthly partitions outside them
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Booking b where b.user = :user and b.checkInDate >= :from and b.checkInDate < :to")
+    Page<Booking> findByUserCheckingIn(@Param("user") User user, @Param("from") LocalDate from, @Param("to") LocalDate to,
+                                       Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Booking b where b.user = :user and b.status = :status and b.checkInDate >= :from and b.checkInDate < :to")
+    Page<Booking> findByUserAndStatusCheckingIn(@Param("user") User user, @Param("status") BookingStatus status,
+                                                @Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    // By id alone the partition is unknown: one primary-key probe per partition
+    @EntityGraph(attributePaths = "user")
+    Optional<Booking> findWithUserById(Long id);
+
+    // Dashboard totals per status, summed in SQL; lifetime totals span every partition by definition
+    @Query("select b.status as status, count(b) as bookings, coalesce(sum(b.totalAmount), 0) as revenue from Booking b group by b.status")
+    List<StatusTotals> totalsByStatus();
+
+    interface StatusTotals {
+        BookingStatus getStatus();
+        long getBookings();
+        BigDecimal getRevenue();
+    }
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select b from Booking b")
+    List<Booking> findAllWithUser();
+
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "select b from Booking b", countQuery = "select count(b) from Booking b")
+    Page<Booking> findAllWithUser(Pageable pageable);
+
+    // Live stays (both dates set) on any of the rooms overlapping [checkIn, checkOut); a same-day stay holds its one night,
+    // as in PricingEngine.nights. earliestCheckIn bounds the partitions scanned
+    @Query(value = """
+            SELECT count(*) FROM bookings b JOIN booking_rooms br ON br.booking_id = b.id
+            WHERE br.room_id IN (:roomIds) AND b.status <> 'CANCELLED' AND b.check_out_date IS NOT NULL
+              AND b.check_in_date >= :earliestCheckIn AND b.check_in_date < :checkOut
+              AND GREATEST(b.check_out_date, b.check_in_date + 1) > :checkIn""",
+            nativeQuery = true)
+    long countOverlappingStays(@Param("roomIds") Collection<Long> roomIds, @Param("checkIn") LocalDate checkIn,
+                               @Param("checkOut") LocalDate checkOut, @Param("earliestCheckIn") LocalDate earliestCheckIn);
 }
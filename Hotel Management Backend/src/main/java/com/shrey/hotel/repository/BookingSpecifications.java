@@ -0,0 +1,63 @@
+package com.shrey.hotel.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.Room;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+// Composable booking filters; each returns null (no restriction) when its argument is null
+public final class BookingSpecifications {
+    private BookingSpecifications() {}
+
+    // A check-in bound also prunes bookings partitions
+    public static Specification<Booking> checkInFrom(LocalDate from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("checkInDate"), from);
+    }
+
+    public static Specification<Booking> checkInTo(LocalDate to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("checkInDate"), to);
+    }
+
+    public static Specification<Booking> hasStatus(BookingStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Booking> guestEmail(String email) {
+        return email == null || email.isBlank() ? null
+                : (root, query, cb) -> cb.equal(cb.lower(root.join("user").get("email")), email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    // EXISTS instead of a join so a booking with several rooms is still one row
+    public static Specification<Booking> hasRoomNumber(Integer roomNumber) {
+        return roomNumber == null ? null : (root, query, cb) -> {
+            Subquery<Long> rooms = query.subquery(Long.class);
+            Root<Booking> booking = rooms.correlate(root);
+            Join<Booking, Room> room = booking.join("rooms");
+            return cb.exists(rooms.select(room.get("id")).where(cb.equal(room.get("roomNumber"), roomNumber)));
+        };
+    }
+
+    public static Specification<Booking> amountAtLeast(BigDecimal min) {
+        return min == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("totalAmount"), min);
+    }
+
+    public static Specification<Booking> amountAtMost(BigDecimal max) {
+        return max == null ? null : (root, query, cb) -> cb.lessThanOrEqualTo(root.get("totalAmount"), max);
+    }
+
+    /** Keyset: bookings after (checkIn, id) in newest-check-in-first order. */
+    public static Specification<Booking> before(LocalDate checkIn, Long id) {
+        return checkIn == null ? null : (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("checkInDate"), checkIn),
+                cb.and(cb.equal(root.get("checkInDate"), checkIn), cb.lessThan(root.get("id"), id)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.shrey.hotel.repository;
 
 import com.shrey.hotel.model.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,6 +9,7 @@ import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    @EntityGraph(attributePaths = "user") // refresh rotation reads the user after the lookup's transaction
     Optional<RefreshToken> findByToken(String token);
     void deleteByToken(String token);
     void deleteAllByUser_Id(Long userId);
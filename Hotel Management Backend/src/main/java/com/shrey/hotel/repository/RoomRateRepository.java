@@ -0,0 +1,14 @@
+package com.shrey.hotel.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.shrey.hotel.model.RoomRate;
+
+@Repository
+public interface RoomRateRepository extends JpaRepository<RoomRate, Long> {
+    // Application order for the calendar: later effectiveFrom overrides earlier
+    List<RoomRate> findAllByOrderByEffectiveFromAscIdAsc();
+}
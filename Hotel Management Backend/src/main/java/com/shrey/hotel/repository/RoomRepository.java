@@ -1,16 +1,23 @@
 package com.shrey.hotel.repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.shrey.hotel.model.Room;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findByRoomNumber(Integer roomNumber);
@@ -21,4 +28,18 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     Optional<Room> findFirstByAvailableTrue();
     Page<Room> findByPricePerNightBetween(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
     Page<Room> findByRoomTypeAndPricePerNightBetween(String roomType, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+
+    // Test-and-set on availability in one statement; the version moves so a stale JPA copy saved later fails instead of undoing it
+    @Modifying
+    @Query("update Room r set r.available = false, r.version = coalesce(r.version, 0) + 1 where r.roomNumber = :roomNumber and r.available = true")
+    int takeIfAvailable(@Param("roomNumber") Integer roomNumber);
+
+    @Modifying
+    @Query("update Room r set r.available = true, r.version = coalesce(r.version, 0) + 1 where r.roomNumber = :roomNumber and r.available = false")
+    int releaseIfTaken(@Param("roomNumber") Integer roomNumber);
+
+    // Row locks in id order, so bookings over overlapping room sets queue instead of deadlocking
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Room r where r.id in :ids order by r.id")
+    List<Room> lockAllById(@Param("ids") Collection<Long> ids);
 }
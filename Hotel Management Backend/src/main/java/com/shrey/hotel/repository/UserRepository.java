@@ -2,11 +2,20 @@ package com.shrey.hotel.repository;
 
 import com.shrey.hotel.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // Read-write, so it runs on the primary: credential checks happen before there is a principal
+    // to make sticky, and a user who just signed up may not have reached the replicas yet
+    @Transactional
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findByEmailOnPrimary(@Param("email") String email);
 }
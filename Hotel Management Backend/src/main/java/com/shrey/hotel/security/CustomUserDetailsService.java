@@ -21,7 +21,9 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        // Replica first; only a miss (e.g. a token issued by signup moments ago) goes to the primary
         User user = userRepository.findByEmail(email)
+                .or(() -> userRepository.findByEmailOnPrimary(email))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
         return new org.springframework.security.core.userdetails.User(
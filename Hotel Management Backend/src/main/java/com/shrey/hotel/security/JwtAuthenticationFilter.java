@@ -11,6 +11,8 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.shrey.hotel.observability.HotelMetrics;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,10 +22,12 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final HotelMetrics metrics;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, HotelMetrics metrics) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.metrics = metrics;
     }
 
     @Override
@@ -31,7 +35,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String authHeader = request.getHeader("Authorization");
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.isTokenValid(token) && !jwtUtil.isRefreshToken(token)) {
+            var sample = metrics.start();
+            boolean valid = jwtUtil.isTokenValid(token) && !jwtUtil.isRefreshToken(token);
+            metrics.jwtVerified(sample, valid ? "valid" : "invalid");
+            if (valid) {
                 String email = jwtUtil.parseToken(token).getSubject();
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
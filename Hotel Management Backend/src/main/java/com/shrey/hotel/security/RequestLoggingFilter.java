@@ -5,10 +5,16 @@ import java.util.UUID;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.shrey.hotel.observability.CorrelationIdPropagator;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,18 +23,43 @@ import jakarta.servlet.http.HttpServletResponse;
 @Component
 public class RequestLoggingFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    static final String MDC_KEY = "correlationId";
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public RequestLoggingFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
-        String correlationId = request.getHeader("X-Correlation-Id");
+        String correlationId = request.getHeader(CorrelationIdPropagator.HEADER);
         if (correlationId == null || correlationId.isEmpty()) {
-            correlationId = UUID.randomUUID().toString();
+            // The server span is already open here, so reuse its trace id when tracing is on
+            correlationId = currentTraceId();
         }
-        response.setHeader("X-Correlation-Id", correlationId);
+        response.setHeader(CorrelationIdPropagator.HEADER, correlationId);
+        MDC.put(MDC_KEY, correlationId);
         String path = request.getRequestURI();
         String method = request.getMethod();
         String principal = request.getUserPrincipal() != null ? request.getUserPrincipal().getName() : "anonymous";
+        long start = System.nanoTime();
         log.debug("{} {} cid={} user={}", method, path, correlationId, principal);
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            log.debug("{} {} cid={} status={} tookMs={}", method, path, correlationId, response.getStatus(),
+                    (System.nanoTime() - start) / 1_000_000);
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private String currentTraceId() {
+        Tracer t = tracer.getIfAvailable();
+        Span span = t == null ? null : t.currentSpan();
+        if (span != null && !span.context().traceId().isEmpty()) {
+            return span.context().traceId();
+        }
+        return UUID.randomUUID().toString();
     }
 }
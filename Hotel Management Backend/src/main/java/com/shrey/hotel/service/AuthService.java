@@ -2,20 +2,28 @@ package com.shrey.hotel.service;
 
 import java.util.Optional;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.shrey.hotel.datasource.ReadYourWritesTracker;
 import com.shrey.hotel.model.User;
+import com.shrey.hotel.observability.HotelMetrics;
 import com.shrey.hotel.repository.UserRepository;
 
 @Service
 public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final HotelMetrics metrics;
+    private final ObjectProvider<ReadYourWritesTracker> readYourWrites;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, HotelMetrics metrics,
+                       ObjectProvider<ReadYourWritesTracker> readYourWrites) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.metrics = metrics;
+        this.readYourWrites = readYourWrites;
     }
 
     public User register(String email, String password, String fullName) {
@@ -25,15 +33,18 @@ public class AuthService {
         User user = new User();
         user.setEmail(email);
         user.setFullName(fullName);
-        user.setPasswordHash(passwordEncoder.encode(password));
-        return userRepository.save(user);
+        user.setPasswordHash(metrics.passwordHash("encode", () -> passwordEncoder.encode(password)));
+        User saved = userRepository.save(user);
+        // Signup is anonymous; the token it returns must read the new account from the primary
+        readYourWrites.ifAvailable(tracker -> tracker.recordWrite(saved.getEmail()));
+        return saved;
     }
 
     public Optional<User> authenticate(String email, String password) {
-        Optional<User> userOpt = userRepository.findByEmail(email);
+        Optional<User> userOpt = userRepository.findByEmailOnPrimary(email);
         if (userOpt.isEmpty()) return Optional.empty();
         User user = userOpt.get();
-        if (passwordEncoder.matches(password, user.getPasswordHash())) return Optional.of(user);
+        if (metrics.passwordHash("matches", () -> passwordEncoder.matches(password, user.getPasswordHash()))) return Optional.of(user);
         return Optional.empty();
     }
 }
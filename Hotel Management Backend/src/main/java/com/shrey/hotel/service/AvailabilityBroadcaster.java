@@ -0,0 +1,294 @@
+package com.shrey.hotel.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.events.DomainEvent;
+import com.shrey.hotel.events.DomainEventConsumer;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.repository.RoomRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans room availability changes out to Server-Sent Events subscribers. Changes are coalesced
+ * per room for a short window and sent as one {@code availability} frame holding the latest
+ * state of each changed room. Every client has a bounded queue drained by its own sender; a
+ * client that falls a full buffer behind is disconnected and catches up on reconnect.
+ *
+ * <p>The last frames are kept for replay: a reconnect with {@code Last-Event-ID} gets the frames
+ * it missed, or a full {@code snapshot} when they are no longer kept (or the id is from before
+ * a restart). A new subscriber gets a {@code ready} frame carrying the current id.
+ */
+@Component
+public class AvailabilityBroadcaster implements DomainEventConsumer {
+    public record Delta(Long roomId, Integer roomNumber, boolean available) {}
+
+    // seq < 0: heartbeat comment
+    record Frame(long seq, String name, String data) {}
+
+    interface Sink {
+        void send(Frame frame) throws IOException;
+
+        void close();
+    }
+
+    private static final Frame HEARTBEAT = new Frame(-1, null, null);
+
+    private final ObjectMapper objectMapper;
+    private final RoomRepository roomRepository;
+    private final Executor senders;
+    private final int clientBuffer;
+    private final int replayFrames;
+    private final Duration coalesceWindow;
+    private final Duration heartbeatInterval;
+    private final Duration streamTimeout;
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+
+    // Guarded by this
+    private final Map<Long, Delta> pending = new LinkedHashMap<>();
+    private final ArrayDeque<Frame> replay = new ArrayDeque<>();
+    private long lastSeq;
+
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public AvailabilityBroadcaster(ObjectMapper objectMapper, RoomRepository roomRepository,
+                                   @Value("${app.availability.client-buffer:64}") int clientBuffer,
+                                   @Value("${app.availability.replay-frames:1024}") int replayFrames,
+                                   @Value("${app.availability.coalesce-window:200ms}") Duration coalesceWindow,
+                                   @Value("${app.availability.heartbeat-interval:15s}") Duration heartbeatInterval,
+                                   @Value("${app.availability.stream-timeout:30m}") Duration streamTimeout) {
+        this(objectMapper, roomRepository, Executors.newVirtualThreadPerTaskExecutor(),
+                clientBuffer, replayFrames, coalesceWindow, heartbeatInterval, streamTimeout);
+    }
+
+    AvailabilityBroadcaster(ObjectMapper objectMapper, RoomRepository roomRepository, Executor senders,
+                            int clientBuffer, int replayFrames, Duration coalesceWindow,
+                            Duration heartbeatInterval, Duration streamTimeout) {
+        this.objectMapper = objectMapper;
+        this.roomRepository = roomRepository;
+        this.senders = senders;
+        this.clientBuffer = clientBuffer;
+        this.replayFrames = replayFrames;
+        this.coalesceWindow = coalesceWindow;
+        this.heartbeatInterval = heartbeatInterval;
+        this.streamTimeout = streamTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "availability-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = coalesceWindow.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        long heartbeat = heartbeatInterval.toMillis();
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+        clients.forEach(Client::close);
+        if (senders instanceof ExecutorService executor) executor.shutdownNow();
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Client client = attach(new EmitterSink(emitter), lastEventId);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(client::close);
+        emitter.onError(error -> clients.remove(client));
+        return emitter;
+    }
+
+    public int subscribers() {
+        return clients.size();
+    }
+
+    @Override
+    public String name() {
+        return "availability";
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof RoomAvailabilityChanged changed) {
+            synchronized (this) {
+                // Later changes to the same room replace earlier ones within the window
+                pending.remove(changed.roomId());
+                pending.put(changed.roomId(), new Delta(changed.roomId(), changed.roomNumber(), changed.available()));
+            }
+        }
+    }
+
+    synchronized void flush() {
+        if (pending.isEmpty()) return;
+        Frame frame = new Frame(++lastSeq, "availability", json(new ArrayList<>(pending.values())));
+        pending.clear();
+        replay.addLast(frame);
+        if (replay.size() > replayFrames) replay.removeFirst();
+        for (Client client : clients) client.offer(frame);
+    }
+
+    void heartbeat() {
+        for (Client client : clients) client.offer(HEARTBEAT);
+    }
+
+    Client attach(Sink sink, String lastEventId) {
+        Client client = new Client(sink);
+        long resumeAfter = resumePoint(lastEventId);
+        while (true) {
+            Frame snapshot = null;
+            if (lastEventId != null && !canReplay(resumeAfter)) {
+                // Read outside the lock; frames flushed meanwhile are replayed on top of it, deltas are idempotent
+                synchronized (this) {
+                    resumeAfter = lastSeq;
+                }
+                snapshot = new Frame(resumeAfter, "snapshot",
+                        json(roomRepository.findAll().stream().map(AvailabilityBroadcaster::delta).toList()));
+            }
+            synchronized (this) {
+                if (lastEventId != null && !canReplay(resumeAfter)) continue; // a buffer's worth flushed during the read
+                if (lastEventId == null) client.offer(new Frame(lastSeq, "ready", "{}"));
+                if (snapshot != null) client.offer(snapshot);
+                if (lastEventId != null) replayAfter(client, resumeAfter);
+                clients.add(client);
+                return client;
+            }
+        }
+    }
+
+    // Caller holds this
+    private void replayAfter(Client client, long seq) {
+        for (Frame frame : replay) {
+            if (frame.seq() > seq) client.offer(frame);
+        }
+    }
+
+    // Every frame after resumeAfter is still kept and fits in the client's buffer
+    private synchronized boolean canReplay(long resumeAfter) {
+        if (resumeAfter < 0 || resumeAfter > lastSeq) return false;
+        long oldestKept = replay.isEmpty() ? lastSeq + 1 : replay.peekFirst().seq();
+        return resumeAfter + 1 >= oldestKept && lastSeq - resumeAfter < clientBuffer;
+    }
+
+    // -1 when absent, malformed, or issued before this process started
+    private long resumePoint(String lastEventId) {
+        if (lastEventId == null) return -1;
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !lastEventId.substring(0, dash).equals(bootId)) return -1;
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    String eventId(long seq) {
+        return bootId + "-" + seq;
+    }
+
+    private String json(List<?> body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Delta delta(Room room) {
+        return new Delta(room.getId(), room.getRoomNumber(), Boolean.TRUE.equals(room.getAvailable()));
+    }
+
+    final class Client {
+        private final Sink sink;
+        private final ArrayBlockingQueue<Frame> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Client(Sink sink) {
+            this.sink = sink;
+            // Room for a full replay plus the ready/snapshot frame
+            this.queue = new ArrayBlockingQueue<>(clientBuffer + 1);
+        }
+
+        void offer(Frame frame) {
+            if (closed) return;
+            if (!queue.offer(frame)) {
+                close(); // too slow: it reconnects with Last-Event-ID and catches up from the replay log
+                return;
+            }
+            if (draining.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) sink.send(frame);
+            } catch (IOException | RuntimeException e) {
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // A frame offered after our last poll but before the flag was cleared
+            if (!closed && !queue.isEmpty() && draining.compareAndSet(false, true)) senders.execute(this::drain);
+        }
+
+        void close() {
+            closed = true;
+            clients.remove(this);
+            sink.close();
+        }
+    }
+
+    private final class EmitterSink implements Sink {
+        private final SseEmitter emitter;
+
+        private EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(Frame frame) throws IOException {
+            if (frame.seq() < 0) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                emitter.send(SseEmitter.event().id(eventId(frame.seq())).name(frame.name()).data(frame.data(), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.shrey.hotel.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import com.shrey.hotel.events.BookingCancelled;
+import com.shrey.hotel.events.BookingCreated;
+import com.shrey.hotel.events.CatalogChanged;
+import com.shrey.hotel.events.DomainEvent;
+import com.shrey.hotel.events.DomainEventConsumer;
+import com.shrey.hotel.pricing.PricingEngine;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+
+/**
+ * Rooms booked per room type and night, for the next {@code app.availability.calendar-days}
+ * nights. Each room type has a {@link RangeMaxTree} over nights: a booking adds 1 over its
+ * stay and a cancellation removes it again (O(log n)), and "fewest rooms free across a stay"
+ * is the inventory minus the range max (O(log n)). A Fenwick tree gives prefix sums, not
+ * range max under range updates, hence the segment tree.
+ *
+ * <p>Built from the database on first use, after a room catalog change and when the date rolls
+ * over; kept current in between from booking events. Bookings already counted are remembered
+ * by id, so an event for a booking the build already saw is ignored.
+ */
+@Component
+public class AvailabilityCalendar implements DomainEventConsumer {
+    public record TypeCalendar(String roomType, int rooms, LocalDate from, int[] free) {}
+
+    public record StayAvailability(String roomType, int rooms, int minFree) {}
+
+    // Room type ordinals, one per room in the booking, and the nights [start, end) as epoch days
+    private record Stay(int[] types, long start, long end) {}
+
+    private static final String ACTIVE_STAYS = """
+            SELECT b.id, b.check_in_date, b.check_out_date, r.room_type
+            FROM bookings b
+            JOIN booking_rooms br ON br.booking_id = b.id
+            JOIN rooms r ON r.id = br.room_id
+            WHERE b.status <> 'CANCELLED' AND b.check_in_date IS NOT NULL AND b.check_out_date IS NOT NULL
+              AND b.check_out_date > ? AND b.check_in_date >= ? AND b.check_in_date < ?
+            ORDER BY b.id""";
+
+    private final JdbcTemplate jdbc;
+    private final BookingPartitions partitions;
+    private final int horizonDays;
+
+    // Guarded by this
+    private boolean stale = true;
+    private LocalDate origin;
+    private final Map<String, Integer> typeIndex = new LinkedHashMap<>();
+    private int[] inventory = new int[0];
+    private RangeMaxTree[] trees = new RangeMaxTree[0];
+    private final Map<Long, Stay> counted = new HashMap<>();
+
+    public AvailabilityCalendar(JdbcTemplate jdbc, BookingPartitions partitions,
+                                @Value("${app.availability.calendar-days:365}") int horizonDays) {
+        this.jdbc = jdbc;
+        this.partitions = partitions;
+        this.horizonDays = horizonDays;
+    }
+
+    @Override
+    public String name() {
+        return "availability-calendar";
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+        if (stale) return; // the next build reads it from the database
+        if (event instanceof BookingCreated created) {
+            if (created.bookingId() == null || counted.containsKey(created.bookingId()) || created.checkIn() == null) return;
+            int[] types = new int[created.roomTypes().size()];
+            for (int i = 0; i < types.length; i++) {
+                Integer type = typeIndex.get(created.roomTypes().get(i));
+                if (type == null) {
+                    stale = true; // a room type created since the build
+                    return;
+                }
+                types[i] = type;
+            }
+            Stay stay = stay(types, created.checkIn(), created.checkOut());
+            counted.put(created.bookingId(), stay);
+            apply(stay, 1);
+        } else if (event instanceof BookingCancelled cancelled) {
+            Stay stay = counted.remove(cancelled.bookingId());
+            if (stay != null) apply(stay, -1);
+        } else if (event instanceof CatalogChanged changed && changed.catalog() == Catalog.ROOMS) {
+            stale = true; // rooms added, removed or retyped change the inventory
+        }
+    }
+
+    /** Free rooms per night from {@code from}, one entry per room type (or just roomType). */
+    public synchronized List<TypeCalendar> calendar(LocalDate from, int days, String roomType) {
+        ensureCurrent();
+        int start = offset(from);
+        if (days < 1 || start + days > horizonDays) {
+            throw new IllegalArgumentException("calendar covers " + origin + " to " + origin.plusDays(horizonDays - 1));
+        }
+        List<TypeCalendar> result = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : typeIndex.entrySet()) {
+            if (roomType != null && !entry.getKey().equalsIgnoreCase(roomType)) continue;
+            int type = entry.getValue();
+            int[] booked = trees[type].values();
+            int[] free = new int[days];
+            for (int d = 0; d < days; d++) free[d] = inventory[type] - booked[start + d];
+            result.add(new TypeCalendar(entry.getKey(), inventory[type], from, free));
+        }
+        return result;
+    }
+
+    /** Fewest rooms free on any night of [checkIn, checkOut), per room type (or just roomType). */
+    public synchronized List<StayAvailability> minFree(LocalDate checkIn, LocalDate checkOut, String roomType) {
+        ensureCurrent();
+        int start = offset(checkIn);
+        int end = start + (int) PricingEngine.nights(checkIn, checkOut);
+        if (end > horizonDays) {
+            throw new IllegalArgumentException("calendar covers " + origin + " to " + origin.plusDays(horizonDays - 1));
+        }
+        List<StayAvailability> result = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : typeIndex.entrySet()) {
+            if (roomType != null && !entry.getKey().equalsIgnoreCase(roomType)) continue;
+            int type = entry.getValue();
+            result.add(new StayAvailability(entry.getKey(), inventory[type], inventory[type] - trees[type].max(start, end)));
+        }
+        return result;
+    }
+
+    // Caller holds this
+    private void ensureCurrent() {
+        LocalDate today = LocalDate.now();
+        if (!stale && today.equals(origin)) return;
+        origin = today;
+        typeIndex.clear();
+        counted.clear();
+        Map<String, Integer> rooms = new LinkedHashMap<>();
+        jdbc.query("SELECT room_type, count(*) FROM rooms GROUP BY room_type ORDER BY room_type",
+                (RowCallbackHandler) rs -> rooms.put(rs.getString(1), rs.getInt(2)));
+        rooms.keySet().forEach(type -> typeIndex.put(type, typeIndex.size()));
+        inventory = rooms.values().stream().mapToInt(Integer::intValue).toArray();
+        trees = new RangeMaxTree[inventory.length];
+        for (int t = 0; t < trees.length; t++) trees[t] = new RangeMaxTree(horizonDays);
+
+        Map<Long, List<Integer>> types = new LinkedHashMap<>();
+        Map<Long, LocalDate[]> dates = new HashMap<>();
+        jdbc.query(ACTIVE_STAYS, (RowCallbackHandler) rs -> {
+            Integer type = typeIndex.get(rs.getString(4));
+            if (type == null) return;
+            long id = rs.getLong(1);
+            LocalDate checkIn = rs.getObject(2, LocalDate.class);
+            LocalDate checkOut = rs.getObject(3, LocalDate.class);
+            types.computeIfAbsent(id, key -> new ArrayList<>()).add(type);
+            dates.computeIfAbsent(id, key -> new LocalDate[] {checkIn, checkOut});
+        }, Date.valueOf(origin), Date.valueOf(partitions.earliestCheckIn(origin)), Date.valueOf(origin.plusDays(horizonDays)));
+        types.forEach((id, roomTypes) -> {
+            LocalDate[] stayDates = dates.get(id);
+            Stay stay = stay(roomTypes.stream().mapToInt(Integer::intValue).toArray(), stayDates[0], stayDates[1]);
+            counted.put(id, stay);
+            apply(stay, 1);
+        });
+        stale = false;
+    }
+
+    private void apply(Stay stay, int delta) {
+        int from = (int) Math.max(0, stay.start() - origin.toEpochDay());
+        int to = (int) Math.min(horizonDays, stay.end() - origin.toEpochDay());
+        if (from >= to) return;
+        for (int type : stay.types()) trees[type].add(from, to, delta);
+    }
+
+    // Same night count as pricing: at least one night
+    private static Stay stay(int[] types, LocalDate checkIn, LocalDate checkOut) {
+        long nights = checkOut == null ? 1 : PricingEngine.nights(checkIn, checkOut);
+        return new Stay(types, checkIn.toEpochDay(), checkIn.toEpochDay() + nights);
+    }
+
+    private int offset(LocalDate date) {
+        long offset = ChronoUnit.DAYS.between(origin, date);
+        if (offset < 0 || offset >= horizonDays) {
+            throw new IllegalArgumentException("calendar covers " + origin + " to " + origin.plusDays(horizonDays - 1));
+        }
+        return (int) offset;
+    }
+}
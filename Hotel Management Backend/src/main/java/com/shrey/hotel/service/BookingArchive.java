@@ -0,0 +1,214 @@
+package com.shrey.hotel.service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.repository.RoomRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Cold storage for finished bookings (V11). A background task moves COMPLETED and CANCELLED
+ * bookings whose stay ended more than {@code app.bookings.archive.retention} ago, with their
+ * room and food rows, out of the hot tables. Each batch is one statement, so it commits or
+ * rolls back as a whole and a stopped run simply continues with the next batch; rows locked
+ * by a concurrent update are skipped and picked up next time.
+ *
+ * <p>Archived bookings are read back as detached {@link Booking}s for history pages that go
+ * past a user's hot bookings.
+ */
+@Service
+public class BookingArchive {
+    private static final Logger log = LoggerFactory.getLogger(BookingArchive.class);
+
+    public static final Set<BookingStatus> ARCHIVED_STATUSES = EnumSet.of(BookingStatus.COMPLETED, BookingStatus.CANCELLED);
+
+    // Oldest check-ins first: the check_in_date bound prunes to the old partitions
+    private static final String MOVE_BATCH = """
+            WITH moved AS (
+                DELETE FROM bookings WHERE (id, check_in_date) IN (
+                    SELECT id, check_in_date FROM bookings
+                    WHERE status IN ('COMPLETED', 'CANCELLED') AND check_in_date < ? AND COALESCE(check_out_date, check_in_date) < ?
+                    ORDER BY check_in_date, id LIMIT ? FOR UPDATE SKIP LOCKED)
+                RETURNING id, user_id, food_quantities, total_amount, status, created_at, updated_at, check_in_date, check_out_date),
+            archived AS (
+                INSERT INTO bookings_archive (id, user_id, food_quantities, total_amount, status, created_at, updated_at,
+                                              check_in_date, check_out_date)
+                SELECT id, user_id, food_quantities, total_amount, status, created_at, updated_at, check_in_date, check_out_date
+                FROM moved RETURNING id),
+            room_lines AS (
+                DELETE FROM booking_rooms WHERE booking_id IN (SELECT id FROM moved) RETURNING booking_id, room_id),
+            food_lines AS (
+                DELETE FROM booking_food_items WHERE booking_id IN (SELECT id FROM moved) RETURNING booking_id, food_item_id),
+            archived_rooms AS (
+                INSERT INTO booking_rooms_archive (booking_id, room_id) SELECT booking_id, room_id FROM room_lines),
+            archived_food AS (
+                INSERT INTO booking_food_items_archive (booking_id, food_item_id) SELECT booking_id, food_item_id FROM food_lines)
+            SELECT count(*) FROM archived""";
+
+    private final JdbcTemplate jdbc;
+    private final RoomRepository roomRepository;
+    private final FoodItemRepository foodItemRepository;
+    private final HotelMetrics metrics;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public BookingArchive(JdbcTemplate jdbc, RoomRepository roomRepository, FoodItemRepository foodItemRepository,
+                          HotelMetrics metrics,
+                          @Value("${app.bookings.archive.retention:365d}") Duration retention,
+                          @Value("${app.bookings.archive.batch-size:500}") int batchSize,
+                          @Value("${app.bookings.archive.interval:1h}") Duration interval) {
+        this.jdbc = jdbc;
+        this.roomRepository = roomRepository;
+        this.foodItemRepository = foodItemRepository;
+        this.metrics = metrics;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-archive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                archive();
+            } catch (RuntimeException ex) {
+                log.warn("Booking archival failed: {}", ex.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /** Moves every archivable booking in batches; returns how many moved. Call outside a transaction. */
+    public long archive() {
+        Date cutoff = Date.valueOf(LocalDate.now().minusDays(retention.toDays()));
+        long total = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Long moved = jdbc.queryForObject(MOVE_BATCH, Long.class, cutoff, cutoff, batchSize);
+            if (moved == null || moved == 0) break;
+            total += moved;
+            metrics.bookingsArchived(moved);
+            if (moved < batchSize) break;
+        }
+        if (total > 0) log.info("Archived {} bookings that ended before {}", total, cutoff);
+        return total;
+    }
+
+    public long count(User user, BookingStatus status) {
+        return count(user, status, null, null);
+    }
+
+    // from/to (both or neither) limit check-in dates to [from, to), matching the hot-table history query
+    public long count(User user, BookingStatus status, LocalDate from, LocalDate to) {
+        if (status != null && !ARCHIVED_STATUSES.contains(status)) return 0;
+        List<Object> args = new ArrayList<>();
+        Long count = jdbc.queryForObject("SELECT count(*) FROM bookings_archive WHERE " + filter(user, status, from, to, args),
+                Long.class, args.toArray());
+        return count == null ? 0 : count;
+    }
+
+    public List<Booking> history(User user, BookingStatus status, long offset, long limit) {
+        return history(user, status, null, null, offset, limit);
+    }
+
+    /** The user's archived bookings, newest first, with rooms and food items that still exist in the catalog. */
+    public List<Booking> history(User user, BookingStatus status, LocalDate from, LocalDate to, long offset, long limit) {
+        if (limit <= 0 || (status != null && !ARCHIVED_STATUSES.contains(status))) return List.of();
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT id, food_quantities, total_amount, status, created_at, updated_at, check_in_date, check_out_date"
+                + " FROM bookings_archive WHERE " + filter(user, status, from, to, params)
+                + " ORDER BY created_at DESC, id DESC OFFSET ? LIMIT ?";
+        params.add(offset);
+        params.add(limit);
+        Object[] args = params.toArray();
+        List<Booking> bookings = jdbc.query(sql, (rs, n) -> {
+            Booking booking = new Booking(rs.getLong("id"), user, new ArrayList<>(), new ArrayList<>(),
+                    rs.getString("food_quantities"), rs.getBigDecimal("total_amount"), BookingStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("created_at").toLocalDateTime(), rs.getTimestamp("updated_at").toLocalDateTime());
+            booking.setCheckInDate(rs.getObject("check_in_date", LocalDate.class));
+            booking.setCheckOutDate(rs.getObject("check_out_date", LocalDate.class));
+            return booking;
+        }, args);
+        if (bookings.isEmpty()) return bookings;
+
+        Map<Long, Booking> byId = bookings.stream().collect(Collectors.toMap(Booking::getId, Function.identity()));
+        Map<Long, List<Long>> roomIds = lines("booking_rooms_archive", "room_id", byId.keySet());
+        Map<Long, List<Long>> foodIds = lines("booking_food_items_archive", "food_item_id", byId.keySet());
+        Map<Long, Room> rooms = roomRepository.findAllById(flatten(roomIds)).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        Map<Long, FoodItem> food = foodItemRepository.findAllById(flatten(foodIds)).stream()
+                .collect(Collectors.toMap(FoodItem::getId, Function.identity()));
+        roomIds.forEach((id, ids) -> ids.stream().map(rooms::get).filter(room -> room != null)
+                .forEach(byId.get(id).getRooms()::add));
+        foodIds.forEach((id, ids) -> ids.stream().map(food::get).filter(item -> item != null)
+                .forEach(byId.get(id).getFoodItems()::add));
+        return bookings;
+    }
+
+    private static String filter(User user, BookingStatus status, LocalDate from, LocalDate to, List<Object> args) {
+        StringBuilder where = new StringBuilder("user_id = ?");
+        args.add(user.getId());
+        if (status != null) {
+            where.append(" AND status = ?");
+            args.add(status.name());
+        }
+        if (from != null) {
+            where.append(" AND check_in_date >= ? AND check_in_date < ?");
+            args.add(Date.valueOf(from));
+            args.add(Date.valueOf(to));
+        }
+        return where.toString();
+    }
+
+    private Map<Long, List<Long>> lines(String table, String column, Set<Long> bookingIds) {
+        Map<Long, List<Long>> lines = new HashMap<>();
+        jdbc.query("SELECT booking_id, " + column + " FROM " + table + " WHERE booking_id IN ("
+                        + String.join(", ", Collections.nCopies(bookingIds.size(), "?")) + ")",
+                (RowCallbackHandler) rs -> lines.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getLong(2)),
+                bookingIds.toArray());
+        return lines;
+    }
+
+    private static List<Long> flatten(Map<Long, List<Long>> lines) {
+        return lines.values().stream().flatMap(List::stream).distinct().toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.shrey.hotel.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.shrey.hotel.events.BookingCompleted;
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Moves bookings along without an admin: a CONFIRMED booking whose check-out date has come is
+ * marked COMPLETED, and its rooms are made available again unless another stay holds them today.
+ *
+ * <p>Work is claimed in batches with {@code FOR UPDATE SKIP LOCKED}, so every node can run the
+ * processor: each claims a disjoint batch and never waits on another. A batch is one transaction
+ * of two set-based updates; its events are published after it commits.
+ */
+@Service
+public class BookingLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(BookingLifecycle.class);
+
+    public record Result(int completed, int roomsReleased) {}
+
+    private record Completed(long bookingId, long userId, LocalDate checkOut) {}
+
+    // updated_at moves so the analytics refresh picks the change up
+    private static final String COMPLETE_DUE = """
+            UPDATE bookings b SET status = 'COMPLETED', updated_at = ?
+            FROM (SELECT id, check_in_date FROM bookings
+                  WHERE status = 'CONFIRMED' AND check_in_date < ? AND COALESCE(check_out_date, check_in_date + 1) <= ?
+                  ORDER BY check_in_date, id LIMIT ? FOR UPDATE SKIP LOCKED) due
+            WHERE b.id = due.id AND b.check_in_date = due.check_in_date
+            RETURNING b.id, b.user_id, COALESCE(b.check_out_date, b.check_in_date + 1)""";
+
+    // Only rooms no other confirmed or pending stay covers today; version moves like a JPA update would
+    private static final String RELEASE_ROOMS = """
+            UPDATE rooms r SET available = TRUE, version = COALESCE(r.version, 0) + 1
+            WHERE r.available = FALSE
+              AND r.id IN (SELECT room_id FROM booking_rooms WHERE booking_id IN (%s))
+              AND NOT EXISTS (
+                  SELECT 1 FROM booking_rooms br JOIN bookings b ON b.id = br.booking_id
+                  WHERE br.room_id = r.id AND b.status IN ('CONFIRMED', 'PENDING')
+                    AND b.check_in_date <= ? AND b.check_in_date >= ? AND COALESCE(b.check_out_date, b.check_in_date + 1) > ?)
+            RETURNING r.id, r.room_number, r.room_type""";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transaction;
+    private final DomainEventBus eventBus;
+    private final CatalogResponseCache catalogCache;
+    private final BookingPartitions partitions;
+    private final int batchSize;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+
+    public BookingLifecycle(JdbcTemplate jdbc, PlatformTransactionManager transactionManager, DomainEventBus eventBus,
+                            CatalogResponseCache catalogCache, BookingPartitions partitions,
+                            @Value("${app.bookings.lifecycle.batch-size:200}") int batchSize,
+                            @Value("${app.bookings.lifecycle.interval:1m}") Duration interval) {
+        this.jdbc = jdbc;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventBus = eventBus;
+        this.catalogCache = catalogCache;
+        this.partitions = partitions;
+        this.batchSize = batchSize;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                process();
+            } catch (RuntimeException ex) {
+                log.warn("Booking lifecycle run failed: {}", ex.getMessage());
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    /** Processes due bookings batch by batch until none are left unclaimed. */
+    public Result process() {
+        int completed = 0;
+        int released = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            Result batch = transaction.execute(tx -> processBatch(LocalDate.now()));
+            if (batch == null || batch.completed() == 0) break;
+            completed += batch.completed();
+            released += batch.roomsReleased();
+            if (batch.completed() < batchSize) break;
+        }
+        if (completed > 0) log.info("Completed {} bookings, released {} rooms", completed, released);
+        return new Result(completed, released);
+    }
+
+    // Runs inside the batch transaction: the claimed rows stay locked until it commits
+    private Result processBatch(LocalDate today) {
+        Date day = Date.valueOf(today);
+        List<Completed> completed = jdbc.query(COMPLETE_DUE,
+                (rs, n) -> new Completed(rs.getLong(1), rs.getLong(2), rs.getObject(3, LocalDate.class)),
+                Timestamp.valueOf(LocalDateTime.now()), day, day, batchSize);
+        if (completed.isEmpty()) return new Result(0, 0);
+
+        Object[] args = new Object[completed.size() + 3];
+        for (int i = 0; i < completed.size(); i++) args[i] = completed.get(i).bookingId();
+        args[completed.size()] = day;
+        args[completed.size() + 1] = Date.valueOf(partitions.earliestCheckIn(today));
+        args[completed.size() + 2] = day;
+        List<RoomAvailabilityChanged> released = jdbc.query(
+                RELEASE_ROOMS.formatted(String.join(",", Collections.nCopies(completed.size(), "?"))),
+                (rs, n) -> new RoomAvailabilityChanged(rs.getLong(1), rs.getInt(2), rs.getString(3), true), args);
+
+        completed.forEach(c -> eventBus.publish(new BookingCompleted(c.bookingId(), c.userId(), c.checkOut())));
+        released.forEach(eventBus::publish);
+        if (!released.isEmpty()) catalogCache.invalidate(Catalog.ROOMS);
+        return new Result(completed.size(), released.size());
+    }
+}
@@ -0,0 +1,118 @@
+package com.shrey.hotel.service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Monthly range partitions of {@code bookings} on check-in date (see V10). A background task
+ * keeps the current month and the next {@code app.bookings.partitions-ahead} in place; a booking
+ * for any other month creates its partition first through {@link #ensure(LocalDate)}.
+ *
+ * <p>Stays are capped at {@code app.bookings.max-stay-nights}, so a query for stays covering a
+ * night can bound check-in from below as well and only touch the partitions that can match.
+ */
+@Component
+public class BookingPartitions {
+    private static final Logger log = LoggerFactory.getLogger(BookingPartitions.class);
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'bookings_'uuuu_MM");
+
+    private final JdbcTemplate jdbc;
+    private final int monthsAhead;
+    private final Duration checkInterval;
+    private final int maxStayNights;
+    private final Set<YearMonth> known = ConcurrentHashMap.newKeySet();
+    private ScheduledExecutorService scheduler;
+
+    public BookingPartitions(JdbcTemplate jdbc,
+                             @Value("${app.bookings.partitions-ahead:12}") int monthsAhead,
+                             @Value("${app.bookings.partition-check-interval:6h}") Duration checkInterval,
+                             @Value("${app.bookings.max-stay-nights:90}") int maxStayNights) {
+        this.jdbc = jdbc;
+        this.monthsAhead = monthsAhead;
+        this.checkInterval = checkInterval;
+        this.maxStayNights = maxStayNights;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-partitions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::maintain, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) scheduler.shutdownNow();
+    }
+
+    public int maxStayNights() {
+        return maxStayNights;
+    }
+
+    /** Earliest check-in of a stay that can still cover {@code night}: the lower pruning bound. */
+    public LocalDate earliestCheckIn(LocalDate night) {
+        return night.minusDays(maxStayNights);
+    }
+
+    // Call outside a transaction: the DDL locks bookings until commit
+    /** Creates the partition for checkIn's month unless it is known to exist. */
+    public void ensure(LocalDate checkIn) {
+        YearMonth month = YearMonth.from(checkIn);
+        if (known.contains(month)) return;
+        synchronized (this) {
+            if (known.contains(month)) return;
+            try {
+                create(month);
+            } catch (DataAccessException ex) {
+                // Another instance created it between our IF NOT EXISTS check and the insert into the catalog
+                create(month);
+            }
+            known.add(month);
+        }
+    }
+
+    void maintain() {
+        try {
+            jdbc.query("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid"
+                    + " WHERE i.inhparent = 'bookings'::regclass", rs -> {
+                        try {
+                            known.add(YearMonth.parse(rs.getString(1), PARTITION_NAME));
+                        } catch (RuntimeException ignored) {
+                            // not one of ours
+                        }
+                    });
+            YearMonth current = YearMonth.now();
+            for (int i = 0; i <= monthsAhead; i++) {
+                ensure(current.plusMonths(i).atDay(1));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Booking partition maintenance failed: {}", ex.getMessage());
+        }
+    }
+
+    private void create(YearMonth month) {
+        String name = jdbc.queryForObject("SELECT create_bookings_partition(?)", String.class, Date.valueOf(month.atDay(1)));
+        log.debug("Booking partition {} is in place", name);
+    }
+}
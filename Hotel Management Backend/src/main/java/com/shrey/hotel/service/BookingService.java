@@ -1,42 +1,186 @@
 package com.shrey.hotel.service;
 
+import com.shrey.hotel.events.BookingCancelled;
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
 import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.repository.BookingRepository;
 import com.shrey.hotel.repository.RoomRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import io.micrometer.observation.annotation.Observed;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Service
+@Observed
 public class BookingService {
     private final RoomRepository roomRepository;
+    private final BookingRepository bookingRepository;
+    private final CatalogResponseCache catalogCache;
+    private final DomainEventBus eventBus;
+    private final BookingArchive archive;
+    private final BookingPartitions partitions;
+    private final JdbcTemplate jdbc;
+    private final LockingStrategy lockingStrategy;
+
+    // Open ends of a history range; Postgres dates stop well before LocalDate.MIN/MAX
+    private static final LocalDate FIRST_CHECK_IN = LocalDate.of(1970, 1, 1);
+    private static final LocalDate LAST_CHECK_IN = LocalDate.of(9999, 12, 31);
+
+    // Two-key advisory lock (bookings table oid, room id): a key space of its own, apart from the
+    // single-bigint hashtext(...) keys CatalogImportService takes
+    private static final String ROOM_ADVISORY_LOCK = "SELECT pg_advisory_xact_lock('bookings'::regclass::int, ?::int)";
+
+    // How createBooking serializes requests for the same rooms: row locks on rooms, or transaction-scoped advisory locks on room ids
+    public enum LockingStrategy { ROW_LOCK, ADVISORY_LOCK }
 
-    public BookingService(RoomRepository roomRepository) {
+    public BookingService(RoomRepository roomRepository, BookingRepository bookingRepository, CatalogResponseCache catalogCache,
+                          DomainEventBus eventBus, BookingArchive archive, BookingPartitions partitions, JdbcTemplate jdbc,
+                          @Value("${app.bookings.locking:ROW_LOCK}") LockingStrategy lockingStrategy) {
         this.roomRepository = roomRepository;
+        this.bookingRepository = bookingRepository;
+        this.catalogCache = catalogCache;
+        this.eventBus = eventBus;
+        this.archive = archive;
+        this.partitions = partitions;
+        this.jdbc = jdbc;
+        this.lockingStrategy = lockingStrategy;
     }
 
     public Optional<Room> findFirstAvailable() {
         return roomRepository.findFirstByAvailableTrue();
     }
 
+    // One conditional UPDATE decides the winner, so this holds across nodes and needs no JVM lock
     @Transactional
-    public synchronized boolean bookRoom(Integer roomNumber) {
-        Optional<Room> rOpt = roomRepository.findByRoomNumber(roomNumber);
-        if (rOpt.isEmpty()) return false;
-        Room r = rOpt.get();
-        if (!r.getAvailable()) return false;
-        r.setAvailable(false);
-        roomRepository.save(r);
+    public boolean bookRoom(Integer roomNumber) {
+        if (roomRepository.takeIfAvailable(roomNumber) == 0) return false;
+        Room r = roomRepository.findByRoomNumber(roomNumber).orElseThrow();
+        catalogCache.invalidate(CatalogResponseCache.Catalog.ROOMS);
+        eventBus.publish(RoomAvailabilityChanged.of(r));
         return true;
     }
 
     @Transactional
-    public synchronized void releaseRoom(Integer roomNumber) {
-        Optional<Room> rOpt = roomRepository.findByRoomNumber(roomNumber);
-        if (rOpt.isPresent()) {
-            Room r = rOpt.get();
-            r.setAvailable(true);
-            roomRepository.save(r);
+    public void releaseRoom(Integer roomNumber) {
+        if (roomRepository.releaseIfTaken(roomNumber) == 0) return;
+        roomRepository.findByRoomNumber(roomNumber).ifPresent(r -> {
+            catalogCache.invalidate(CatalogResponseCache.Catalog.ROOMS);
+            eventBus.publish(RoomAvailabilityChanged.of(r));
+        });
+    }
+
+    /**
+     * Saves a booking unless one of its rooms already has a live stay overlapping its dates; empty
+     * on conflict. A missing check-in is today and a missing check-out is the next day, as the booking
+     * is priced and as the lifecycle releases it. The rooms are locked first (in id order), so two
+     * overlapping requests are checked one after the other.
+     */
+    @Transactional
+    public Optional<Booking> createBooking(Booking booking) {
+        return createBooking(booking, lockingStrategy);
+    }
+
+    @Transactional
+    public Optional<Booking> createBooking(Booking booking, LockingStrategy strategy) {
+        if (booking.getCheckInDate() == null) booking.setCheckInDate(LocalDate.now());
+        if (booking.getCheckOutDate() == null) booking.setCheckOutDate(booking.getCheckInDate().plusDays(1));
+        LocalDate checkIn = booking.getCheckInDate();
+        LocalDate checkOut = booking.getCheckOutDate();
+        List<Long> roomIds = booking.getRooms() == null ? List.of()
+                : booking.getRooms().stream().map(Room::getId).distinct().sorted().toList();
+        if (!roomIds.isEmpty()) {
+            switch (strategy) {
+                case ROW_LOCK -> roomRepository.lockAllById(roomIds);
+                case ADVISORY_LOCK -> roomIds.forEach(id -> jdbc.query(ROOM_ADVISORY_LOCK, rs -> null, id));
+            }
+            LocalDate end = checkOut.isAfter(checkIn) ? checkOut : checkIn.plusDays(1);
+            if (bookingRepository.countOverlappingStays(roomIds, checkIn, end, partitions.earliestCheckIn(checkIn)) > 0) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(bookingRepository.save(booking));
+    }
+
+    // Read paths for controllers: open-in-view is off, so each returns bookings with the user already loaded
+
+    // Archived bookings follow the user's hot bookings: a page past the hot ones continues into the archive
+    @Transactional(readOnly = true)
+    public Page<Booking> history(User user, BookingStatus status, Pageable pageable) {
+        return history(user, status, null, null, pageable);
+    }
+
+    /**
+     * History limited to check-ins in [from, to) when either bound is given (an open side extends to the end of the
+     * date range), so only the matching monthly partitions are read. Without bounds every partition is scanned.
+     */
+    @Transactional(readOnly = true)
+    public Page<Booking> history(User user, BookingStatus status, LocalDate from, LocalDate to, Pageable pageable) {
+        boolean bounded = from != null || to != null;
+        if (bounded) {
+            from = from != null ? from : FIRST_CHECK_IN;
+            to = to != null ? to : LAST_CHECK_IN;
+        }
+        Page<Booking> hot;
+        if (bounded) {
+            hot = status == null
+                    ? bookingRepository.findByUserCheckingIn(user, from, to, pageable)
+                    : bookingRepository.findByUserAndStatusCheckingIn(user, status, from, to, pageable);
+        } else {
+            hot = status == null
+                    ? bookingRepository.findByUser(user, pageable)
+                    : bookingRepository.findByUserAndStatus(user, status, pageable);
+        }
+        long archived = archive.count(user, status, from, to);
+        if (archived == 0) return hot;
+        List<Booking> content = new ArrayList<>(hot.getContent());
+        if (pageable.isUnpaged()) {
+            content.addAll(archive.history(user, status, from, to, 0, archived));
+            return new PageImpl<>(content, pageable, content.size());
         }
+        if (content.size() < pageable.getPageSize()) {
+            long offset = Math.max(0, pageable.getOffset() - hot.getTotalElements());
+            content.addAll(archive.history(user, status, from, to, offset, pageable.getPageSize() - content.size()));
+        }
+        return new PageImpl<>(content, pageable, hot.getTotalElements() + archived);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Booking> findWithUser(Long id) {
+        return bookingRepository.findWithUserById(id);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Booking> findAll(Pageable pageable) {
+        return bookingRepository.findAllWithUser(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Booking> findAll() {
+        return bookingRepository.findAllWithUser();
+    }
+
+    // Dirty-checked inside one transaction instead of merging a detached copy; a cancellation is announced after commit
+    @Transactional
+    public Optional<Booking> updateStatus(Long id, BookingStatus status) {
+        return bookingRepository.findWithUserById(id).map(booking -> {
+            boolean cancelling = status == BookingStatus.CANCELLED && booking.getStatus() != BookingStatus.CANCELLED;
+            booking.setStatus(status);
+            if (cancelling) eventBus.publish(BookingCancelled.of(booking));
+            return booking;
+        });
     }
 }
@@ -1,38 +1,60 @@
 package com.shrey.hotel.service;
 
-import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
 import com.shrey.hotel.dto.CartDTO;
+import com.shrey.hotel.exception.ConflictException;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
 import com.shrey.hotel.repository.FoodItemRepository;
 import com.shrey.hotel.repository.RoomRepository;
 
+import io.micrometer.observation.annotation.Observed;
+
 @Service
+@Observed
 public class CartService {
     private final RoomRepository roomRepository;
     private final FoodItemRepository foodItemRepository;
+    private final HotelMetrics metrics;
     
     // In-memory cart storage (per-session, would use Redis/DB in production)
     private final Map<String, CartDTO> carts = new HashMap<>();
 
-    public CartService(RoomRepository roomRepository, FoodItemRepository foodItemRepository) {
+    public CartService(RoomRepository roomRepository, FoodItemRepository foodItemRepository, HotelMetrics metrics) {
         this.roomRepository = roomRepository;
         this.foodItemRepository = foodItemRepository;
+        this.metrics = metrics;
+        metrics.registerCache("carts", carts, Map::size);
     }
 
     public CartDTO getCart(String sessionId) {
-        return carts.getOrDefault(sessionId, new CartDTO());
+        CartDTO cart = carts.get(sessionId);
+        if (cart == null) {
+            metrics.cacheMiss("carts");
+            return new CartDTO();
+        }
+        metrics.cacheHit("carts");
+        return cart;
     }
 
     public CartDTO addRoomToCart(String sessionId, Long roomId) {
+        return metrics.cartMutation("add_room", () -> doAddRoomToCart(sessionId, roomId));
+    }
+
+    private CartDTO doAddRoomToCart(String sessionId, Long roomId) {
         CartDTO cart = getCart(sessionId);
         // Count unique items: each room counts as 1, each food type counts as 1
         int totalUniqueItems = cart.getRoomIds().size() + cart.getFoodItems().keySet().size();
         if (totalUniqueItems >= 10 && !cart.getRoomIds().contains(roomId)) {
-            throw new IllegalStateException("Cart cannot exceed 10 unique items");
+            throw new ConflictException("Cart cannot exceed 10 unique items");
         }
         if (!cart.getRoomIds().contains(roomId)) {
             cart.getRoomIds().add(roomId);
@@ -43,6 +65,10 @@ public class CartService {
     }
 
     public CartDTO addFoodToCart(String sessionId, Long foodItemId, int quantity) {
+        return metrics.cartMutation("add_food", () -> doAddFoodToCart(sessionId, foodItemId, quantity));
+    }
+
+    private CartDTO doAddFoodToCart(String sessionId, Long foodItemId, int quantity) {
         if (quantity < 0) {
             throw new IllegalArgumentException("Quantity must be non-negative");
         }
@@ -53,7 +79,7 @@ public class CartService {
         // Count unique items: each room counts as 1, each food type counts as 1
         int totalUniqueItems = cart.getRoomIds().size() + cart.getFoodItems().keySet().size();
         if (totalUniqueItems >= 10 && !cart.getFoodItems().containsKey(foodItemId)) {
-            throw new IllegalStateException("Cart cannot exceed 10 unique items");
+            throw new ConflictException("Cart cannot exceed 10 unique items");
         }
         cart.getFoodItems().put(foodItemId, quantity);
         recalculateTotal(cart);
@@ -62,46 +88,34 @@ public class CartService {
     }
 
     public CartDTO removeRoomFromCart(String sessionId, Long roomId) {
-        CartDTO cart = getCart(sessionId);
-        cart.getRoomIds().remove(roomId);
-        recalculateTotal(cart);
-        carts.put(sessionId, cart);
-        return cart;
+        return metrics.cartMutation("remove_room", () -> {
+            CartDTO cart = getCart(sessionId);
+            cart.getRoomIds().remove(roomId);
+            recalculateTotal(cart);
+            carts.put(sessionId, cart);
+            return cart;
+        });
     }
 
     public CartDTO removeFoodFromCart(String sessionId, Long foodItemId) {
-        CartDTO cart = getCart(sessionId);
-        cart.getFoodItems().remove(foodItemId);
-        recalculateTotal(cart);
-        carts.put(sessionId, cart);
-        return cart;
+        return metrics.cartMutation("remove_food", () -> {
+            CartDTO cart = getCart(sessionId);
+            cart.getFoodItems().remove(foodItemId);
+            recalculateTotal(cart);
+            carts.put(sessionId, cart);
+            return cart;
+        });
     }
 
     public void clearCart(String sessionId) {
         carts.remove(sessionId);
     }
 
+    // One query per catalog for the whole cart; rooms are priced for a single night until dates are chosen
     private void recalculateTotal(CartDTO cart) {
-        BigDecimal total = BigDecimal.ZERO;
-        // Rooms
-        for (Long roomId : cart.getRoomIds()) {
-            if (roomId == null) continue;
-            BigDecimal roomPrice = roomRepository.findById(roomId)
-                    .map(r -> r.getPricePerNight())
-                    .orElse(BigDecimal.ZERO);
-            total = total.add(roomPrice);
-        }
-        // Food items
-        for (Map.Entry<Long, Integer> entry : cart.getFoodItems().entrySet()) {
-            Long foodId = entry.getKey();
-            if (foodId == null) continue;
-            Integer qtyObj = entry.getValue();
-            int qty = qtyObj != null ? qtyObj : 0;
-            BigDecimal foodTotal = foodItemRepository.findById(foodId)
-                    .map(f -> f.getPrice().multiply(BigDecimal.valueOf(qty)))
-                    .orElse(BigDecimal.ZERO);
-            total = total.add(foodTotal);
-        }
-        cart.setTotalAmount(total);
+        List<Room> rooms = cart.getRoomIds().isEmpty() ? List.of() : roomRepository.findAllById(cart.getRoomIds());
+        List<FoodItem> food = cart.getFoodItems().isEmpty() ? List.of() : foodItemRepository.findAllById(cart.getFoodItems().keySet());
+        long total = PricingEngine.stayTotal(rooms, 1, food, cart.getFoodItems(), 0);
+        cart.setTotalAmount(Money.toDecimal(total));
     }
 }
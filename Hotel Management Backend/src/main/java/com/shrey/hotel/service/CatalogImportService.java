@@ -0,0 +1,250 @@
+package com.shrey.hotel.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+
+/**
+ * Bulk catalog import. The upload is streamed with COPY into a text-only staging table, checked
+ * there in SQL, and merged into {@code rooms}/{@code food_items} with one set-based upsert, so a
+ * few thousand rows cost a handful of statements instead of a round trip each. Rows that fail
+ * validation are reported back and skipped; the rest are applied.
+ */
+@Service
+public class CatalogImportService {
+    public enum Format { CSV, NDJSON }
+
+    public record Reject(long row, String error) {}
+
+    public record ImportResult(long received, long inserted, long updated, long rejected, List<Reject> rejects) {}
+
+    static final int MAX_REPORTED_REJECTS = 100;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // Staging table, row checks, and the upsert per catalog. Staging columns are TEXT so bad values reach validation instead of failing COPY
+    private record Target(String lockKey, String staging, List<String> columns, String validate, String dedupe, String upsert) {}
+
+    private static final Target ROOMS = new Target("catalog-import:rooms", "room_import",
+            List.of("room_number", "room_type", "price_per_night", "available"),
+            """
+            UPDATE room_import SET error = CASE
+                WHEN error IS NOT NULL THEN error
+                WHEN coalesce(btrim(room_number), '') !~ '^0*[1-9][0-9]{0,8}$' THEN 'room_number must be a positive integer'
+                WHEN nullif(btrim(room_type), '') IS NULL THEN 'room_type is required'
+                WHEN length(btrim(room_type)) > 100 THEN 'room_type is longer than 100 characters'
+                WHEN coalesce(btrim(price_per_night), '') !~ '^[0-9]{1,17}(\\.[0-9]{1,2})?$' THEN 'price_per_night must be an amount with at most 2 decimals'
+                WHEN lower(coalesce(btrim(available), '')) NOT IN ('', 'true', 'false', 't', 'f', 'yes', 'no', '1', '0') THEN 'available must be true or false'
+            END
+            """,
+            """
+            UPDATE room_import s SET error = 'room_number appears again later in the upload'
+            WHERE s.error IS NULL AND EXISTS (
+                SELECT 1 FROM room_import l
+                WHERE l.error IS NULL AND l.row_no > s.row_no
+                  AND ltrim(btrim(l.room_number), '0') = ltrim(btrim(s.room_number), '0'))
+            """,
+            """
+            WITH upserted AS (
+                INSERT INTO rooms (room_number, room_type, price_per_night, available, version)
+                SELECT btrim(room_number)::int, btrim(room_type), btrim(price_per_night)::numeric(19,2),
+                       coalesce(lower(nullif(btrim(available), '')) IN ('true', 't', 'yes', '1'), TRUE), 0
+                FROM room_import WHERE error IS NULL
+                ON CONFLICT (room_number) DO UPDATE
+                    SET room_type = EXCLUDED.room_type,
+                        price_per_night = EXCLUDED.price_per_night,
+                        available = EXCLUDED.available,
+                        version = coalesce(rooms.version, 0) + 1
+                RETURNING (xmax = 0) AS inserted)
+            SELECT count(*) FILTER (WHERE inserted), count(*) FILTER (WHERE NOT inserted) FROM upserted
+            """);
+
+    // food_items has no unique key, so existing items are matched on name (case-insensitive)
+    private static final Target FOOD = new Target("catalog-import:food", "food_import",
+            List.of("name", "cuisine", "price", "image_url"),
+            """
+            UPDATE food_import SET error = CASE
+                WHEN error IS NOT NULL THEN error
+                WHEN nullif(btrim(name), '') IS NULL THEN 'name is required'
+                WHEN length(btrim(name)) > 255 THEN 'name is longer than 255 characters'
+                WHEN nullif(btrim(cuisine), '') IS NULL THEN 'cuisine is required'
+                WHEN length(btrim(cuisine)) > 100 THEN 'cuisine is longer than 100 characters'
+                WHEN coalesce(btrim(price), '') !~ '^[0-9]{1,17}(\\.[0-9]{1,2})?$' THEN 'price must be an amount with at most 2 decimals'
+                WHEN length(btrim(image_url)) > 512 THEN 'image_url is longer than 512 characters'
+            END
+            """,
+            """
+            UPDATE food_import s SET error = 'name appears again later in the upload'
+            WHERE s.error IS NULL AND EXISTS (
+                SELECT 1 FROM food_import l
+                WHERE l.error IS NULL AND l.row_no > s.row_no
+                  AND lower(btrim(l.name)) = lower(btrim(s.name)))
+            """,
+            """
+            WITH incoming AS (
+                SELECT btrim(name) AS name, btrim(cuisine) AS cuisine, btrim(price)::numeric(19,2) AS price,
+                       nullif(btrim(image_url), '') AS image_url
+                FROM food_import WHERE error IS NULL),
+            updated AS (
+                UPDATE food_items f
+                SET cuisine = i.cuisine, price = i.price, image_url = coalesce(i.image_url, f.image_url)
+                FROM incoming i WHERE lower(f.name) = lower(i.name)
+                RETURNING lower(f.name) AS name),
+            inserted AS (
+                INSERT INTO food_items (name, cuisine, price, image_url)
+                SELECT name, cuisine, price, image_url FROM incoming i
+                WHERE NOT EXISTS (SELECT 1 FROM food_items f WHERE lower(f.name) = lower(i.name))
+                RETURNING 1)
+            SELECT (SELECT count(*) FROM inserted), (SELECT count(DISTINCT name) FROM updated)
+            """);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CatalogResponseCache catalogCache;
+
+    public CatalogImportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, CatalogResponseCache catalogCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.catalogCache = catalogCache;
+    }
+
+    public static Format formatOf(String contentType) {
+        MediaType type = contentType == null ? null : MediaType.parseMediaType(contentType);
+        if (type != null && type.isCompatibleWith(MediaType.parseMediaType("text/csv"))) return Format.CSV;
+        if (type != null && type.isCompatibleWith(NDJSON)) return Format.NDJSON;
+        throw new IllegalArgumentException("Upload must be text/csv or application/x-ndjson");
+    }
+
+    @Transactional
+    public ImportResult importCatalog(Catalog catalog, Format format, InputStream body) {
+        Target target = catalog == Catalog.ROOMS ? ROOMS : FOOD;
+        // One import per catalog at a time; the lock is released at commit
+        jdbcTemplate.queryForObject("SELECT 1 FROM pg_advisory_xact_lock(hashtext(?))", Integer.class, target.lockKey());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS pg_temp." + target.staging());
+        jdbcTemplate.execute("CREATE TEMP TABLE " + target.staging()
+                + " (row_no BIGINT GENERATED ALWAYS AS IDENTITY, error TEXT, "
+                + String.join(" TEXT, ", target.columns()) + " TEXT) ON COMMIT DROP");
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try {
+                if (format == Format.CSV) copyCsv(connection, target, body);
+                else copyNdjson(connection, target, body);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return null;
+        });
+
+        jdbcTemplate.update(target.validate());
+        jdbcTemplate.update(target.dedupe());
+        long[] counts = jdbcTemplate.queryForObject(target.upsert(),
+                (rs, i) -> new long[] {rs.getLong(1), rs.getLong(2)});
+        long[] totals = jdbcTemplate.queryForObject("SELECT count(*), count(error) FROM " + target.staging(),
+                (rs, i) -> new long[] {rs.getLong(1), rs.getLong(2)});
+        List<Reject> rejects = jdbcTemplate.query(
+                "SELECT row_no, error FROM " + target.staging() + " WHERE error IS NOT NULL ORDER BY row_no LIMIT " + MAX_REPORTED_REJECTS,
+                (rs, i) -> new Reject(rs.getLong(1), rs.getString(2)));
+
+        // Once for the whole upload, after commit
+        if (counts[0] + counts[1] > 0) catalogCache.invalidate(catalog);
+        return new ImportResult(totals[0], counts[0], counts[1], totals[1], rejects);
+    }
+
+    // CSV goes to the server as-is; only the header is read here, to map columns by name
+    private void copyCsv(Connection connection, Target target, InputStream body) throws SQLException, IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) return;
+        List<String> columns = new ArrayList<>();
+        for (String raw : header.replace("\uFEFF", "").split(",")) {
+            String column = normalize(raw.replace("\"", ""));
+            if (!target.columns().contains(column)) {
+                throw new IllegalArgumentException("Unknown column '" + raw.trim() + "', expected " + target.columns());
+            }
+            if (columns.contains(column)) throw new IllegalArgumentException("Column '" + column + "' appears twice");
+            columns.add(column);
+        }
+        String sql = "COPY " + target.staging() + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, reader);
+        } catch (SQLException ex) {
+            // Structural problems (unbalanced quotes, wrong field count) abort COPY, so the whole upload is refused
+            throw new IllegalArgumentException("Malformed CSV: " + ex.getMessage());
+        }
+    }
+
+    // NDJSON is rewritten to CSV on the fly; a line that is not a JSON object becomes a rejected row
+    private void copyNdjson(Connection connection, Target target, InputStream body) throws SQLException, IOException {
+        String sql = "COPY " + target.staging() + " (error, " + String.join(", ", target.columns()) + ") FROM STDIN WITH (FORMAT csv)";
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            Writer out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                Map<String, String> values = new LinkedHashMap<>();
+                String error = null;
+                try {
+                    JsonNode node = objectMapper.readTree(line);
+                    if (node == null || !node.isObject()) {
+                        error = "line is not a JSON object";
+                    } else {
+                        node.fields().forEachRemaining(field -> values.put(normalize(field.getKey()),
+                                field.getValue().isNull() ? null
+                                        : field.getValue().isValueNode() ? field.getValue().asText() : field.getValue().toString()));
+                    }
+                } catch (IOException ex) {
+                    error = "invalid JSON";
+                }
+                writeCsvField(out, error);
+                for (String column : target.columns()) {
+                    out.write(',');
+                    writeCsvField(out, values.get(column));
+                }
+                out.write('\n');
+            }
+            out.flush();
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) copy.cancelCopy();
+        }
+    }
+
+    // Unquoted empty field is NULL in COPY csv; anything else is quoted
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        if (value == null) return;
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    // Accept both API-style camelCase (pricePerNight) and column names (price_per_night)
+    private static String normalize(String name) {
+        return name.trim().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,155 @@
+package com.shrey.hotel.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.datasource.ReplicaRoutingDataSource;
+import com.shrey.hotel.events.CatalogChanged;
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.observability.HotelMetrics;
+
+/**
+ * Fully rendered catalog pages (JSON and gzip) keyed by catalog version and request params.
+ * The dashboard pulls the whole catalog on every page load, so a hit skips both Postgres and
+ * Jackson, and a matching {@code If-None-Match} skips the body entirely.
+ */
+@Component
+public class CatalogResponseCache {
+    public enum Catalog { ROOMS, FOOD }
+
+    public record Rendered(long version, byte[] json, byte[] gzip, String etag, String gzipEtag) {}
+
+    private static final String CACHE_NAME = "catalog";
+    private static final int MAX_ENTRIES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final HotelMetrics metrics;
+    private final DomainEventBus eventBus;
+    private final Map<Catalog, AtomicLong> versions = new EnumMap<>(Catalog.class);
+    private final Map<String, Rendered> entries = new ConcurrentHashMap<>();
+
+    public CatalogResponseCache(ObjectMapper objectMapper, HotelMetrics metrics, DomainEventBus eventBus) {
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.eventBus = eventBus;
+        for (Catalog catalog : Catalog.values()) versions.put(catalog, new AtomicLong());
+        metrics.registerCache(CACHE_NAME, entries, Map::size);
+    }
+
+    public Rendered get(Catalog catalog, String params, Supplier<?> loader) {
+        // Read the version before loading: a write that lands mid-render leaves this entry stale, never current
+        long version = versions.get(catalog).get();
+        String key = catalog + "|" + params;
+        Rendered cached = entries.get(key);
+        if (cached != null && cached.version() == version) {
+            metrics.cacheHit(CACHE_NAME);
+            return cached;
+        }
+        metrics.cacheMiss(CACHE_NAME);
+        // Loaded on the primary: a replica behind the bump would cache old rows under the new version
+        Rendered rendered = render(version, ReplicaRoutingDataSource.onPrimary(loader));
+        if (entries.size() >= MAX_ENTRIES) entries.clear();
+        entries.put(key, rendered);
+        return rendered;
+    }
+
+    /**
+     * Call after a write to the catalog; inside a transaction the bump waits for commit. The bump
+     * stays synchronous so the writer's next read is fresh; other listeners get {@link CatalogChanged}.
+     */
+    public void invalidate(Catalog catalog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(catalog);
+                }
+            });
+        } else {
+            bump(catalog);
+        }
+        // Registered after the bump, so it is published after it too
+        eventBus.publish(new CatalogChanged(catalog));
+    }
+
+    public ResponseEntity<byte[]> respond(Rendered rendered, String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        boolean notModified = matches(ifNoneMatch, rendered);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(gzip ? rendered.gzipEtag() : rendered.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (notModified) {
+            return builder.build();
+        }
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return builder.body(rendered.json());
+    }
+
+    private void bump(Catalog catalog) {
+        versions.get(catalog).incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(catalog + "|"));
+    }
+
+    private Rendered render(long version, Object body) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(json);
+            }
+            String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 16);
+            return new Rendered(version, json, compressed.toByteArray(), "\"" + hash + "\"", "\"" + hash + "-gz\"");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // Either representation's tag counts: the content is the same, only the coding differs
+    private static boolean matches(String ifNoneMatch, Rendered rendered) {
+        if (ifNoneMatch == null) return false;
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*")) return true;
+            if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+            if (candidate.equals(rendered.etag()) || candidate.equals(rendered.gzipEtag())) return true;
+        }
+        return false;
+    }
+}
@@ -5,26 +5,32 @@ import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import com.shrey.hotel.events.BookingCancelled;
+import com.shrey.hotel.events.BookingCreated;
 import com.shrey.hotel.model.Booking;
-import com.shrey.hotel.model.FoodItem;
-import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.HotelMetrics;
+
+import io.micrometer.observation.annotation.Observed;
 
 @Service
+@Observed
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final HotelMetrics metrics;
 
     @Value("${app.mail.from:noreply@hotel.local}")
     private String fromAddress;
 
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, HotelMetrics metrics) {
         this.mailSender = mailSender;
+        this.metrics = metrics;
     }
 
     public void sendBookingConfirmation(String to, String bookingId, String details) {
         String subject = "Booking Confirmation - " + bookingId;
         String text = "Your booking is confirmed.\n\n" + details;
-        send(to, subject, text);
+        send("confirmation", to, subject, text);
     }
 
     /**
@@ -32,40 +38,50 @@ public class EmailService {
      */
     public void sendBookingConfirmation(Booking booking) {
         if (booking == null || booking.getUser() == null) return;
-        String to = booking.getUser().getEmail();
-        String bookingId = booking.getId() == null ? "(pending id)" : String.valueOf(booking.getId());
-        String details = buildDetails(booking);
-        sendBookingConfirmation(to, bookingId, details);
+        sendBookingConfirmation(BookingCreated.of(booking));
+    }
+
+    public void sendBookingConfirmation(BookingCreated booking) {
+        if (booking.email() == null) return;
+        String bookingId = booking.bookingId() == null ? "(pending id)" : String.valueOf(booking.bookingId());
+        sendBookingConfirmation(booking.email(), bookingId, buildDetails(booking));
     }
 
     public void sendBookingCancellation(String to, String bookingId, String details) {
         String subject = "Booking Cancelled - " + bookingId;
         String text = "Your booking has been cancelled.\n\n" + details;
-        send(to, subject, text);
+        send("cancellation", to, subject, text);
+    }
+
+    public void sendBookingCancellation(BookingCancelled booking) {
+        if (booking.email() == null) return;
+        sendBookingCancellation(booking.email(), String.valueOf(booking.bookingId()),
+                "Rooms: " + booking.roomCount() + ", Total: " + booking.total());
     }
 
-    private String buildDetails(Booking booking) {
-        int roomCount = booking.getRooms() == null ? 0 : booking.getRooms().size();
-        String roomNumbers = booking.getRooms() == null ? "" : booking.getRooms().stream().map(Room::getRoomNumber).map(String::valueOf).reduce((a,b) -> a + ", " + b).orElse("");
-        int foodCount = booking.getFoodItems() == null ? 0 : booking.getFoodItems().size();
-        String foodNames = booking.getFoodItems() == null ? "" : booking.getFoodItems().stream().map(FoodItem::getName).reduce((a,b) -> a + ", " + b).orElse("");
-        String total = booking.getTotalAmount() == null ? "0" : booking.getTotalAmount().toPlainString();
-        return "Rooms (" + roomCount + "): " + roomNumbers + "\n" +
-               "Food Items (" + foodCount + "): " + foodNames + "\n" +
+    private String buildDetails(BookingCreated booking) {
+        String roomNumbers = booking.roomNumbers().stream().map(String::valueOf).reduce((a,b) -> a + ", " + b).orElse("");
+        String foodNames = booking.foodNames().stream().reduce((a,b) -> a + ", " + b).orElse("");
+        String total = booking.total() == null ? "0" : booking.total().toPlainString();
+        return "Rooms (" + booking.roomNumbers().size() + "): " + roomNumbers + "\n" +
+               "Food Items (" + booking.foodNames().size() + "): " + foodNames + "\n" +
                "Total: " + total + "\n" +
-               "Status: " + booking.getStatus() + "\n" +
-               "Created: " + (booking.getCreatedAt() == null ? "-" : booking.getCreatedAt());
+               "Status: " + booking.status() + "\n" +
+               "Created: " + (booking.createdAt() == null ? "-" : booking.createdAt());
     }
 
-    private void send(String to, String subject, String text) {
+    private void send(String type, String to, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setFrom(fromAddress);
         message.setTo(to);
         message.setSubject(subject);
         message.setText(text);
+        var sample = metrics.start();
         try {
             mailSender.send(message);
+            metrics.emailDispatched(sample, type, "sent");
         } catch (org.springframework.mail.MailException ex) {
+            metrics.emailDispatched(sample, type, "failed");
             // swallow in dev; log in real impl
         }
     }
@@ -0,0 +1,69 @@
+package com.shrey.hotel.service;
+
+/**
+ * Segment tree over {@code size} slots supporting "add delta to [from, to)" and "max over
+ * [from, to)" in O(log n). Range updates keep their delta on the covering node instead of
+ * pushing it down, so a node's max is its children's max plus its own pending delta.
+ */
+final class RangeMaxTree {
+    private final int size;
+    private final int[] max;
+    private final int[] pending;
+
+    RangeMaxTree(int size) {
+        this.size = size;
+        this.max = new int[4 * Math.max(1, size)];
+        this.pending = new int[max.length];
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(int from, int to, int delta) {
+        if (from < to) add(1, 0, size, Math.max(0, from), Math.min(size, to), delta);
+    }
+
+    /** Max over [from, to); Integer.MIN_VALUE for an empty range. */
+    int max(int from, int to) {
+        return max(1, 0, size, Math.max(0, from), Math.min(size, to));
+    }
+
+    /** Every slot's value, in O(n). */
+    int[] values() {
+        int[] out = new int[size];
+        if (size > 0) collect(1, 0, size, 0, out);
+        return out;
+    }
+
+    private void add(int node, int lo, int hi, int from, int to, int delta) {
+        if (to <= lo || hi <= from) return;
+        if (from <= lo && hi <= to) {
+            max[node] += delta;
+            pending[node] += delta;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        add(2 * node, lo, mid, from, to, delta);
+        add(2 * node + 1, mid, hi, from, to, delta);
+        max[node] = Math.max(max[2 * node], max[2 * node + 1]) + pending[node];
+    }
+
+    private int max(int node, int lo, int hi, int from, int to) {
+        if (to <= lo || hi <= from || from >= to) return Integer.MIN_VALUE;
+        if (from <= lo && hi <= to) return max[node];
+        int mid = (lo + hi) >>> 1;
+        int best = Math.max(max(2 * node, lo, mid, from, to), max(2 * node + 1, mid, hi, from, to));
+        return best == Integer.MIN_VALUE ? best : best + pending[node];
+    }
+
+    private void collect(int node, int lo, int hi, int carried, int[] out) {
+        if (hi - lo == 1) {
+            out[lo] = max[node] + carried;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        collect(2 * node, lo, mid, carried + pending[node], out);
+        collect(2 * node + 1, mid, hi, carried + pending[node], out);
+    }
+}
@@ -0,0 +1,126 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.RoomRate;
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
+import com.shrey.hotel.repository.RoomRateRepository;
+
+/**
+ * Effective-dated weekday/weekend/seasonal rates per room type. Rate periods live in
+ * {@code room_rates}; quotes read an in-memory {@link RateTable} that is built on first use,
+ * rebuilt after a rate change commits, and re-anchored to today when the date rolls over.
+ */
+@Service
+public class RateCalendar {
+    public record Quote(Long roomId, String roomType, LocalDate checkIn, LocalDate checkOut, long nights, BigDecimal total) {}
+
+    private final RoomRateRepository rateRepository;
+    private final int horizonDays;
+    private final Set<DayOfWeek> weekendNights;
+    private final AtomicLong version = new AtomicLong();
+    private volatile RateTable table;
+
+    public RateCalendar(RoomRateRepository rateRepository,
+                        @Value("${app.rates.horizon-days:730}") int horizonDays,
+                        @Value("${app.rates.weekend-nights:FRIDAY,SATURDAY}") DayOfWeek[] weekendNights) {
+        this.rateRepository = rateRepository;
+        this.horizonDays = horizonDays;
+        this.weekendNights = weekendNights.length == 0 ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(List.of(weekendNights));
+    }
+
+    /** Room charges in minor units for a stay; no dates means no room charge, like PricingEngine.nights. */
+    public long roomCharges(List<Room> rooms, LocalDate checkIn, LocalDate checkOut) {
+        long nights = PricingEngine.nights(checkIn, checkOut);
+        if (rooms == null || nights == 0) return 0;
+        LocalDate end = checkIn.plusDays(nights);
+        RateTable current = table();
+        long total = 0;
+        for (int i = 0, n = rooms.size(); i < n; i++) {
+            Room room = rooms.get(i);
+            if (room != null) total = Math.addExact(total, current.stay(room.getRoomType(), room.pricePerNightMinor(), checkIn, end));
+        }
+        return total;
+    }
+
+    public Quote quote(Room room, LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) throw new IllegalArgumentException("checkOut must be after checkIn");
+        long total = table().stay(room.getRoomType(), room.pricePerNightMinor(), checkIn, checkOut);
+        return new Quote(room.getId(), room.getRoomType(), checkIn, checkOut,
+                PricingEngine.nights(checkIn, checkOut), Money.toDecimal(total));
+    }
+
+    public List<RoomRate> rates() {
+        return rateRepository.findAllByOrderByEffectiveFromAscIdAsc();
+    }
+
+    @Transactional
+    public RoomRate addRate(RoomRate rate) {
+        if (rate.getRoomType() == null || rate.getRoomType().isBlank()) throw new IllegalArgumentException("roomType is required");
+        if (rate.getEffectiveFrom() == null) throw new IllegalArgumentException("effectiveFrom is required");
+        if (rate.getEffectiveTo() != null && !rate.getEffectiveTo().isAfter(rate.getEffectiveFrom())) {
+            throw new IllegalArgumentException("effectiveTo must be after effectiveFrom");
+        }
+        if (rate.getWeekdayRate() == null || rate.getWeekdayRate().signum() < 0) {
+            throw new IllegalArgumentException("weekdayRate must be a non-negative amount");
+        }
+        if (rate.getWeekendRate() == null) rate.setWeekendRate(rate.getWeekdayRate());
+        if (rate.getWeekendRate().signum() < 0) throw new IllegalArgumentException("weekendRate must be a non-negative amount");
+        rate.setWeekdayRate(Money.toDecimal(Money.toMinor(rate.getWeekdayRate())));
+        rate.setWeekendRate(Money.toDecimal(Money.toMinor(rate.getWeekendRate())));
+        RoomRate saved = rateRepository.save(rate);
+        invalidate();
+        return saved;
+    }
+
+    @Transactional
+    public boolean deleteRate(Long id) {
+        if (!rateRepository.existsById(id)) return false;
+        rateRepository.deleteById(id);
+        invalidate();
+        return true;
+    }
+
+    RateTable table() {
+        RateTable current = table;
+        LocalDate today = LocalDate.now();
+        if (current != null && current.origin().equals(today)) return current;
+        long seen = version.get();
+        RateTable built = RateTable.build(rateRepository.findAllByOrderByEffectiveFromAscIdAsc(), today, horizonDays, weekendNights);
+        // A rate change that committed while we were loading wins; the next call rebuilds
+        if (version.get() == seen) table = built;
+        return built;
+    }
+
+    private void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    private void clear() {
+        version.incrementAndGet();
+        table = null;
+    }
+}
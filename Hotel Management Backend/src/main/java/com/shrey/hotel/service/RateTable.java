@@ -0,0 +1,113 @@
+package com.shrey.hotel.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.shrey.hotel.model.RoomRate;
+import com.shrey.hotel.pricing.Money;
+
+/**
+ * Immutable per-room-type prefix sums of nightly rates over [origin, origin + days). A stay
+ * inside the window costs two subtractions: rated minor units plus (nights no period covers)
+ * × the room's flat price. Stays reaching outside the window are summed night by night from
+ * the rate periods, so any date still prices correctly.
+ */
+final class RateTable {
+
+    private record Prefix(long[] rated, int[] unrated) {}
+
+    private final LocalDate origin;
+    private final int days;
+    private final Set<DayOfWeek> weekendNights;
+    private final Map<String, Prefix> prefixes;
+    private final Map<String, List<RoomRate>> periods;
+
+    private RateTable(LocalDate origin, int days, Set<DayOfWeek> weekendNights,
+                      Map<String, Prefix> prefixes, Map<String, List<RoomRate>> periods) {
+        this.origin = origin;
+        this.days = days;
+        this.weekendNights = weekendNights;
+        this.prefixes = prefixes;
+        this.periods = periods;
+    }
+
+    // rates must be in application order (effectiveFrom, then id): later periods override earlier ones
+    static RateTable build(List<RoomRate> rates, LocalDate origin, int days, Set<DayOfWeek> weekendNights) {
+        Map<String, List<RoomRate>> periods = new HashMap<>();
+        for (RoomRate rate : rates) {
+            periods.computeIfAbsent(key(rate.getRoomType()), type -> new ArrayList<>()).add(rate);
+        }
+        Map<String, Prefix> prefixes = new HashMap<>();
+        int originDay = origin.getDayOfWeek().getValue() - 1;
+        periods.forEach((type, typeRates) -> {
+            long[] nightly = new long[days];
+            boolean[] covered = new boolean[days];
+            for (RoomRate rate : typeRates) {
+                int start = (int) Math.max(0, ChronoUnit.DAYS.between(origin, rate.getEffectiveFrom()));
+                int end = rate.getEffectiveTo() == null ? days
+                        : (int) Math.min(days, ChronoUnit.DAYS.between(origin, rate.getEffectiveTo()));
+                long weekday = Money.toMinor(rate.getWeekdayRate());
+                long weekend = Money.toMinor(rate.getWeekendRate());
+                for (int d = start; d < end; d++) {
+                    nightly[d] = weekendNights.contains(DayOfWeek.of((originDay + d) % 7 + 1)) ? weekend : weekday;
+                    covered[d] = true;
+                }
+            }
+            long[] rated = new long[days + 1];
+            int[] unrated = new int[days + 1];
+            for (int d = 0; d < days; d++) {
+                rated[d + 1] = Math.addExact(rated[d], covered[d] ? nightly[d] : 0);
+                unrated[d + 1] = unrated[d] + (covered[d] ? 0 : 1);
+            }
+            prefixes.put(type, new Prefix(rated, unrated));
+        });
+        return new RateTable(origin, days, weekendNights, prefixes, periods);
+    }
+
+    LocalDate origin() {
+        return origin;
+    }
+
+    /** Minor units for the nights [checkIn, checkOut) of one room; flatNightly prices nights no period covers. */
+    long stay(String roomType, long flatNightly, LocalDate checkIn, LocalDate checkOut) {
+        long from = ChronoUnit.DAYS.between(origin, checkIn);
+        long to = ChronoUnit.DAYS.between(origin, checkOut);
+        if (to <= from) return 0;
+        String type = key(roomType);
+        Prefix prefix = prefixes.get(type);
+        if (prefix == null) return Math.multiplyExact(flatNightly, to - from);
+        if (from >= 0 && to <= days) {
+            long rated = prefix.rated()[(int) to] - prefix.rated()[(int) from];
+            long unrated = prefix.unrated()[(int) to] - prefix.unrated()[(int) from];
+            return Math.addExact(rated, Math.multiplyExact(unrated, flatNightly));
+        }
+        return walk(periods.get(type), flatNightly, checkIn, checkOut);
+    }
+
+    private long walk(List<RoomRate> typeRates, long flatNightly, LocalDate checkIn, LocalDate checkOut) {
+        long total = 0;
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            long price = flatNightly;
+            for (int i = typeRates.size() - 1; i >= 0; i--) {
+                RoomRate rate = typeRates.get(i);
+                if (rate.covers(night)) {
+                    price = Money.toMinor(weekendNights.contains(night.getDayOfWeek()) ? rate.getWeekendRate() : rate.getWeekdayRate());
+                    break;
+                }
+            }
+            total = Math.addExact(total, price);
+        }
+        return total;
+    }
+
+    static String key(String roomType) {
+        return roomType == null ? "" : roomType.trim().toLowerCase(Locale.ROOT);
+    }
+}
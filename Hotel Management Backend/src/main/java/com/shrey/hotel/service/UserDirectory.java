@@ -0,0 +1,92 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shrey.hotel.model.Role;
+
+/**
+ * Admin user directory: users with their booking count, spend and last stay, computed by one
+ * grouped query over the page of users (hot and archived bookings alike). Search is a
+ * case-insensitive prefix match on email or full name, served by the V12 indexes.
+ */
+@Service
+public class UserDirectory {
+    // totalSpent and lastStay leave cancelled bookings out; lastStay is the latest check-in up to today
+    public record UserSummary(Long id, String email, String fullName, Role role, LocalDateTime createdAt,
+                              long bookings, BigDecimal totalSpent, LocalDate lastStay) {}
+
+    private static final String SUMMARIES = """
+            WITH page AS (
+                SELECT id, email, full_name, role, created_at FROM users %s
+                ORDER BY lower(email), id OFFSET ? LIMIT ?)
+            SELECT p.id, p.email, p.full_name, p.role, p.created_at,
+                   count(b.id) AS bookings,
+                   COALESCE(sum(b.total_amount) FILTER (WHERE b.status <> 'CANCELLED'), 0) AS total_spent,
+                   max(b.check_in_date) FILTER (WHERE b.status <> 'CANCELLED' AND b.check_in_date <= CURRENT_DATE) AS last_stay
+            FROM page p
+            LEFT JOIN (SELECT id, user_id, total_amount, status, check_in_date FROM bookings
+                       UNION ALL
+                       SELECT id, user_id, total_amount, status, check_in_date FROM bookings_archive) b ON b.user_id = p.id
+            GROUP BY p.id, p.email, p.full_name, p.role, p.created_at
+            ORDER BY lower(p.email), p.id""";
+
+    private static final String PREFIX_MATCH = "WHERE lower(email) LIKE ? ESCAPE '\\' OR lower(full_name) LIKE ? ESCAPE '\\'";
+
+    private static final RowMapper<UserSummary> SUMMARY = (rs, n) -> new UserSummary(
+            rs.getLong("id"),
+            rs.getString("email"),
+            rs.getString("full_name"),
+            Role.valueOf(rs.getString("role")),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getLong("bookings"),
+            rs.getBigDecimal("total_spent"),
+            rs.getObject("last_stay", LocalDate.class));
+
+    private final JdbcTemplate jdbc;
+
+    public UserDirectory(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** One page of users ordered by email, optionally filtered by an email or name prefix. */
+    @Transactional(readOnly = true)
+    public Page<UserSummary> search(String query, Pageable pageable) {
+        List<Object> filter = new ArrayList<>();
+        String where = "";
+        if (query != null && !query.isBlank()) {
+            String prefix = escapeLike(query.trim().toLowerCase(Locale.ROOT)) + "%";
+            where = PREFIX_MATCH;
+            filter.add(prefix);
+            filter.add(prefix);
+        }
+        Long total = jdbc.queryForObject("SELECT count(*) FROM users " + where, Long.class, filter.toArray());
+        List<Object> args = new ArrayList<>(filter);
+        args.add(pageable.getOffset());
+        args.add(pageable.getPageSize());
+        List<UserSummary> content = jdbc.query(SUMMARIES.formatted(where), SUMMARY, args.toArray());
+        return new PageImpl<>(content, pageable, total == null ? 0 : total);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserSummary> summary(Long userId) {
+        return jdbc.query(SUMMARIES.formatted("WHERE id = ?"), SUMMARY, userId, 0, 1).stream().findFirst();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
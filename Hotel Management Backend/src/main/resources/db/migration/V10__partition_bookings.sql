@@ -0,0 +1,97 @@
+-- Flyway V10: Range-partition bookings by check-in month
+-- Partitions are named bookings_YYYY_MM and created by create_bookings_partition(date); BookingPartitions
+-- keeps months ahead of today in place and creates any other month on first use.
+-- Existing rows are copied in this transaction: on a large table run it in a maintenance window.
+BEGIN;
+
+-- The partition key must be set on every row
+UPDATE bookings SET check_in_date = created_at::date WHERE check_in_date IS NULL;
+UPDATE bookings SET check_out_date = check_in_date + 1 WHERE check_out_date IS NULL;
+
+-- The join tables keep (booking_id, ...) rows: a foreign key to a partitioned table would have to carry
+-- check_in_date too. Integrity is enforced by the triggers below instead.
+ALTER TABLE booking_rooms DROP CONSTRAINT IF EXISTS fk_booking_rooms_booking;
+ALTER TABLE booking_food_items DROP CONSTRAINT IF EXISTS fk_booking_food_booking;
+
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+ALTER INDEX IF EXISTS bookings_pkey RENAME TO bookings_unpartitioned_pkey;
+ALTER SEQUENCE bookings_id_seq OWNED BY NONE;
+
+CREATE TABLE bookings (
+  id BIGINT NOT NULL DEFAULT nextval('bookings_id_seq'),
+  user_id BIGINT NOT NULL,
+  food_quantities TEXT,
+  total_amount NUMERIC(19,2) NOT NULL,
+  status VARCHAR(32) NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  check_in_date DATE NOT NULL,
+  check_out_date DATE,
+  -- Unique keys on a partitioned table must include the partition key; ids still come from one sequence
+  CONSTRAINT bookings_pkey PRIMARY KEY (id, check_in_date),
+  CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE RESTRICT
+) PARTITION BY RANGE (check_in_date);
+
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+
+CREATE OR REPLACE FUNCTION create_bookings_partition(month DATE) RETURNS TEXT AS $$
+DECLARE
+  first_day DATE := date_trunc('month', month)::date;
+  partition_name TEXT := 'bookings_' || to_char(first_day, 'YYYY_MM');
+BEGIN
+  EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF bookings FOR VALUES FROM (%L) TO (%L)',
+                 partition_name, first_day, (first_day + INTERVAL '1 month')::date);
+  RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Every month that has bookings, plus the next twelve
+SELECT create_bookings_partition(month) FROM (
+  SELECT DISTINCT date_trunc('month', check_in_date)::date AS month FROM bookings_unpartitioned
+  UNION
+  SELECT generate_series(date_trunc('month', CURRENT_DATE), date_trunc('month', CURRENT_DATE) + INTERVAL '12 months',
+                         INTERVAL '1 month')::date
+) months ORDER BY month;
+
+INSERT INTO bookings (id, user_id, food_quantities, total_amount, status, created_at, updated_at, check_in_date, check_out_date)
+SELECT id, user_id, food_quantities, total_amount, status, created_at, updated_at, check_in_date, check_out_date
+FROM bookings_unpartitioned;
+
+DROP TABLE bookings_unpartitioned;
+
+-- Created on the parent, so every partition (including future ones) gets them
+CREATE INDEX IF NOT EXISTS idx_bookings_user ON bookings (user_id);
+CREATE INDEX IF NOT EXISTS idx_bookings_updated_at_id ON bookings (updated_at, id);
+
+-- Join rows must point at an existing booking (what the foreign keys checked)
+CREATE OR REPLACE FUNCTION booking_lines_check_booking() RETURNS trigger AS $$
+BEGIN
+  PERFORM 1 FROM bookings WHERE id = NEW.booking_id FOR KEY SHARE;
+  IF NOT FOUND THEN
+    RAISE EXCEPTION 'booking % does not exist', NEW.booking_id USING ERRCODE = 'foreign_key_violation';
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER booking_rooms_booking_exists AFTER INSERT OR UPDATE OF booking_id ON booking_rooms
+  FOR EACH ROW EXECUTE FUNCTION booking_lines_check_booking();
+CREATE TRIGGER booking_food_items_booking_exists AFTER INSERT OR UPDATE OF booking_id ON booking_food_items
+  FOR EACH ROW EXECUTE FUNCTION booking_lines_check_booking();
+
+-- Deleting a booking deletes its join rows (what ON DELETE CASCADE did). A check-in moved to another
+-- month is a delete plus an insert of the same id, so rows are only removed when the id is gone.
+CREATE OR REPLACE FUNCTION bookings_delete_lines() RETURNS trigger AS $$
+BEGIN
+  IF NOT EXISTS (SELECT 1 FROM bookings WHERE id = OLD.id) THEN
+    DELETE FROM booking_rooms WHERE booking_id = OLD.id;
+    DELETE FROM booking_food_items WHERE booking_id = OLD.id;
+  END IF;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER bookings_delete_lines AFTER DELETE ON bookings
+  FOR EACH ROW EXECUTE FUNCTION bookings_delete_lines();
+
+COMMIT;
@@ -0,0 +1,37 @@
+-- Flyway V11: Cold storage for finished bookings
+-- BookingArchive moves COMPLETED/CANCELLED bookings whose stay ended before the retention window here,
+-- together with their join rows. Archived rows are never updated again, so the tables are plain heaps.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS bookings_archive (
+  id BIGINT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  food_quantities TEXT,
+  total_amount NUMERIC(19,2) NOT NULL,
+  status VARCHAR(32) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  check_in_date DATE NOT NULL,
+  check_out_date DATE,
+  archived_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT fk_bookings_archive_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE RESTRICT
+);
+
+-- No foreign keys to rooms or food items: archived history outlives catalog deletes
+CREATE TABLE IF NOT EXISTS booking_rooms_archive (
+  booking_id BIGINT NOT NULL REFERENCES bookings_archive(id) ON DELETE CASCADE,
+  room_id BIGINT NOT NULL,
+  PRIMARY KEY (booking_id, room_id)
+);
+
+CREATE TABLE IF NOT EXISTS booking_food_items_archive (
+  booking_id BIGINT NOT NULL REFERENCES bookings_archive(id) ON DELETE CASCADE,
+  food_item_id BIGINT NOT NULL,
+  PRIMARY KEY (booking_id, food_item_id)
+);
+
+-- History pages (newest first per user) and the analytics refresh keyset
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_user_created ON bookings_archive (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_bookings_archive_updated_at_id ON bookings_archive (updated_at, id);
+
+COMMIT;
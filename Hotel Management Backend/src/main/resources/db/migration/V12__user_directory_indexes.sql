@@ -0,0 +1,4 @@
+-- Flyway V12: Prefix search for the admin user directory
+-- lower(...) LIKE 'prefix%' can use a text_pattern_ops btree whatever the database collation
+CREATE INDEX IF NOT EXISTS idx_users_email_prefix ON users (lower(email) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_users_full_name_prefix ON users (lower(full_name) text_pattern_ops);
@@ -0,0 +1,17 @@
+-- Flyway V13: Indexes for the admin booking search (newest check-in first, keyset on (check_in_date, id))
+-- Created on the partitioned parent, so every bookings partition gets them.
+BEGIN;
+
+-- Date range plus status filters
+CREATE INDEX IF NOT EXISTS idx_bookings_check_in_status ON bookings (check_in_date, status);
+
+-- The front desk mostly looks at bookings still to happen: a small index walked in keyset order
+CREATE INDEX IF NOT EXISTS idx_bookings_active_check_in ON bookings (check_in_date, id)
+  WHERE status IN ('PENDING', 'CONFIRMED');
+
+-- Guest lookups by user in check-in order
+CREATE INDEX IF NOT EXISTS idx_bookings_user_check_in ON bookings (user_id, check_in_date, id);
+
+-- Email equality on lower(email) uses idx_users_email_prefix (V12): text_pattern_ops also serves =
+
+COMMIT;
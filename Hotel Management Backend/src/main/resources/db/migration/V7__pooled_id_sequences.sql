@@ -0,0 +1,18 @@
+-- Flyway V7: Hand out ids in blocks of 50 so Hibernate can batch inserts
+-- Entities use pooled-lo sequence generators with allocationSize = 50: each nextval reserves [value, value + 50)
+BEGIN;
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE rooms_id_seq INCREMENT BY 50;
+ALTER SEQUENCE food_items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bookings_id_seq INCREMENT BY 50;
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
+
+-- Next block starts above every existing row
+SELECT setval('users_id_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+SELECT setval('rooms_id_seq', COALESCE((SELECT MAX(id) FROM rooms), 0) + 1, false);
+SELECT setval('food_items_id_seq', COALESCE((SELECT MAX(id) FROM food_items), 0) + 1, false);
+SELECT setval('bookings_id_seq', COALESCE((SELECT MAX(id) FROM bookings), 0) + 1, false);
+SELECT setval('refresh_tokens_id_seq', COALESCE((SELECT MAX(id) FROM refresh_tokens), 0) + 1, false);
+
+COMMIT;
@@ -0,0 +1,24 @@
+-- Flyway V8: Effective-dated rate calendar per room type
+-- One row per rate period, not per date: nights in [effective_from, effective_to) cost weekday_rate or weekend_rate.
+-- Where periods overlap, the one with the latest effective_from wins (seasonal rates layered over a base rate).
+-- Nights no period covers fall back to rooms.price_per_night.
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS room_rates (
+  id BIGSERIAL PRIMARY KEY,
+  room_type VARCHAR(100) NOT NULL,
+  effective_from DATE NOT NULL,
+  effective_to DATE,
+  weekday_rate NUMERIC(19,2) NOT NULL,
+  weekend_rate NUMERIC(19,2) NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+  CONSTRAINT chk_room_rates_range CHECK (effective_to IS NULL OR effective_to > effective_from),
+  CONSTRAINT chk_room_rates_positive CHECK (weekday_rate >= 0 AND weekend_rate >= 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_room_rates_type_from ON room_rates (room_type, effective_from);
+
+-- Same pooled-lo id blocks as the other entities (V7)
+ALTER SEQUENCE room_rates_id_seq INCREMENT BY 50;
+
+COMMIT;
@@ -0,0 +1,2 @@
+-- Analytics refreshes read bookings changed since a high-water mark on (updated_at, id)
+CREATE INDEX IF NOT EXISTS idx_bookings_updated_at_id ON bookings (updated_at, id);
@@ -7,15 +7,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 
 import com.shrey.hotel.model.FoodItem;
 import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.SqlStatsFilter;
 import com.shrey.hotel.repository.FoodItemRepository;
 import com.shrey.hotel.repository.RoomRepository;
 
 import jakarta.annotation.PostConstruct;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// SQL statistics are opt-in; the statement budget and connection-hold tests read them
+@SpringBootTest(properties = "app.sql.stats.enabled=true")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 public abstract class BaseIntegrationTest {
@@ -51,4 +57,15 @@ public abstract class BaseIntegrationTest {
             }
         }
     }
+
+    // Statement budget for one request, read from the X-SQL-Count header (test profile is non-prod)
+    protected static ResultMatcher sqlStatementsAtMost(int budget) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatsFilter.COUNT_HEADER);
+            assertNotNull(header, "missing " + SqlStatsFilter.COUNT_HEADER + " header");
+            int statements = Integer.parseInt(header);
+            assertTrue(statements <= budget, result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                    + " issued " + statements + " SQL statements, budget is " + budget);
+        };
+    }
 }
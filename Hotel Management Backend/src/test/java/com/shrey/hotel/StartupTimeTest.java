@@ -0,0 +1,44 @@
+package com.shrey.hotel;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Boots a fresh context (not the cached test one) and checks time-to-ready; override the budget with -Dstartup.budget.ms
+public class StartupTimeTest {
+
+    private static final long BUDGET_MS = Long.getLong("startup.budget.ms", 30_000);
+
+    @Test
+    void application_is_ready_within_budget() {
+        SpringApplication application = new SpringApplication(HotelManagementApplication.class);
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(10_000);
+        application.setApplicationStartup(startup);
+        AtomicReference<Duration> timeToReady = new AtomicReference<>();
+        application.addListeners((ApplicationListener<ApplicationReadyEvent>) event -> timeToReady.set(event.getTimeTaken()));
+
+        try (ConfigurableApplicationContext context = application.run(
+                "--spring.profiles.active=test", "--server.port=0", "--app.seed.enabled=false")) {
+            assertNotNull(timeToReady.get(), "ApplicationReadyEvent was not published");
+            // The slowest steps, so a regression points at its cause
+            startup.getBufferedTimeline().getEvents().stream()
+                    .sorted(Comparator.comparing(TimelineEvent::getDuration).reversed())
+                    .limit(5)
+                    .forEach(event -> System.out.println("startup step " + event.getDuration().toMillis() + " ms: "
+                            + event.getStartupStep().getName()));
+            long millis = timeToReady.get().toMillis();
+            System.out.println("time to ready: " + millis + " ms");
+            assertTrue(millis < BUDGET_MS, "startup took " + millis + " ms, budget is " + BUDGET_MS + " ms");
+        }
+    }
+}
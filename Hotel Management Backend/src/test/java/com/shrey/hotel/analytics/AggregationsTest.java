@@ -0,0 +1,73 @@
+package com.shrey.hotel.analytics;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.shrey.hotel.analytics.BookingColumns.Snapshot;
+import com.shrey.hotel.model.BookingStatus;
+
+public class AggregationsTest {
+
+    private static final int JUNE_1 = (int) LocalDate.of(2025, 6, 1).toEpochDay();
+    private static final byte CONFIRMED = (byte) BookingStatus.CONFIRMED.ordinal();
+
+    @Test
+    void room_revenue_is_spread_over_nights_inside_the_range() {
+        BookingColumns columns = new BookingColumns();
+        int row = columns.appendBooking(1, 1, JUNE_1 + 1, 3, CONFIRMED);
+        columns.appendRoom(row, "SUITE", 30_001);
+        int cancelled = columns.appendBooking(2, 1, JUNE_1, 2, BookingColumns.CANCELLED);
+        columns.appendRoom(cancelled, "SUITE", 99_999);
+        Snapshot snapshot = columns.snapshot(new long[] {4});
+
+        long[] acc = Aggregations.roomNights(ForkJoinPool.commonPool(), snapshot, JUNE_1, 3);
+
+        // June 1 empty, June 2 and 3 sold; the extra minor unit lands on the first night
+        assertArrayEquals(new long[] {0, 1, 1, 0, 10_001, 10_000}, acc);
+    }
+
+    @Test
+    void replaced_booking_only_counts_its_latest_version() {
+        BookingColumns columns = new BookingColumns();
+        int first = columns.appendBooking(7, 1, JUNE_1, 0, CONFIRMED);
+        columns.appendFood(first, "Thai", 2, 500);
+        Snapshot before = columns.snapshot(new long[0]);
+        int second = columns.appendBooking(7, 2, JUNE_1, 0, CONFIRMED);
+        columns.appendFood(second, "Thai", 3, 750);
+        columns.appendFood(second, "Italian", 1, 400);
+        Snapshot after = columns.snapshot(new long[0]);
+
+        assertEquals(1, after.liveBookings());
+        assertArrayEquals(new long[] {3, 1, 750, 400}, Aggregations.cuisineRevenue(ForkJoinPool.commonPool(), after, JUNE_1, 1));
+        // The earlier snapshot is unaffected by the tombstone
+        assertArrayEquals(new long[] {2, 500}, Aggregations.cuisineRevenue(ForkJoinPool.commonPool(), before, JUNE_1, 1));
+    }
+
+    @Test
+    void parallel_scan_matches_a_single_task() {
+        BookingColumns columns = new BookingColumns();
+        Random random = new Random(42);
+        String[] types = {"SINGLE", "DOUBLE", "SUITE"};
+        for (int booking = 0; booking < 20_000; booking++) {
+            int row = columns.appendBooking(booking, 1, JUNE_1 + random.nextInt(90), 1 + random.nextInt(6),
+                    random.nextInt(10) == 0 ? BookingColumns.CANCELLED : CONFIRMED);
+            columns.appendRoom(row, types[random.nextInt(types.length)], 1_000 + random.nextInt(50_000));
+        }
+        Snapshot snapshot = columns.snapshot(new long[] {10, 10, 5});
+
+        ForkJoinPool four = new ForkJoinPool(4);
+        ForkJoinPool one = new ForkJoinPool(1);
+        try {
+            assertArrayEquals(Aggregations.roomNights(one, snapshot, JUNE_1 + 10, 60),
+                    Aggregations.roomNights(four, snapshot, JUNE_1 + 10, 60));
+        } finally {
+            four.shutdown();
+            one.shutdown();
+        }
+    }
+}
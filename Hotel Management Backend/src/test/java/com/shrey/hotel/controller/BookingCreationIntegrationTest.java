@@ -1,7 +1,9 @@
 package com.shrey.hotel.controller;
 
+import java.util.UUID;
+
 import org.junit.jupiter.api.Test;
-import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -15,14 +17,12 @@ import org.springframework.test.web.servlet.MvcResult;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shrey.hotel.repository.RoomRepository;
 
 @SpringBootTest
 @AutoConfigureMockMvc
-@Transactional
 @SuppressWarnings({"null"})
 class BookingCreationIntegrationTest {
 
@@ -33,7 +33,8 @@ class BookingCreationIntegrationTest {
 
     @Test
     void createsBookingAndSendsConfirmationEmail() throws Exception {
-        String email = "create_user@example.com";
+        // Not rolled back: the confirmation is published after commit and sent on the email consumer thread
+        String email = "create_user_" + UUID.randomUUID() + "@example.com";
         String password = "Password123!";
 
         // signup
@@ -71,6 +72,6 @@ class BookingCreationIntegrationTest {
                 .andExpect(jsonPath("$.id").exists())
                 .andExpect(jsonPath("$.status").value("CONFIRMED"));
 
-        verify(mailSender, times(1)).send(org.mockito.ArgumentMatchers.any(SimpleMailMessage.class));
+        verify(mailSender, timeout(5_000).times(1)).send(org.mockito.ArgumentMatchers.any(SimpleMailMessage.class));
     }
 }
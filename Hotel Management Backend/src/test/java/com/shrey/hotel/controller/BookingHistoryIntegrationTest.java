@@ -0,0 +1,83 @@
+package com.shrey.hotel.controller;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.repository.RoomRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Open-in-view is off: these paths must serialize Booking.user without a request-scoped session
+@SuppressWarnings("null")
+public class BookingHistoryIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired ObjectMapper mapper;
+    @Autowired RoomRepository roomRepository;
+    @Autowired MeterRegistry meterRegistry;
+    @MockBean JavaMailSender mailSender;
+
+    @Test
+    void history_and_lookup_serialize_user_without_open_session() throws Exception {
+        String email = "history_" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\",\"fullName\":\"History User\"}"))
+                .andExpect(status().isOk());
+        MvcResult login = mockMvc.perform(post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"Password123!\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        String token = mapper.readTree(login.getResponse().getContentAsString()).get("accessToken").asText();
+
+        // A room of its own: overlapping stays on a shared room would be refused on later runs
+        Room room = new Room();
+        room.setRoomNumber(750_000 + ThreadLocalRandom.current().nextInt(50_000));
+        room.setRoomType("STANDARD");
+        room.setPricePerNight(BigDecimal.valueOf(100));
+        room.setAvailable(true);
+        Long roomId = roomRepository.save(room).getId();
+        MvcResult created = mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content("{\"roomIds\":[" + roomId + "],\"checkInDate\":\"2030-01-10\",\"checkOutDate\":\"2030-01-12\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        long bookingId = mapper.readTree(created.getResponse().getContentAsString()).get("id").asLong();
+        mockMvc.perform(post("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer " + token)
+                .content("{\"roomIds\":[" + roomId + "],\"checkInDate\":\"2030-01-11\",\"checkOutDate\":\"2030-01-13\"}"))
+                .andExpect(status().isConflict());
+
+        mockMvc.perform(get("/bookings/my-history").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].user.email").value(email));
+        mockMvc.perform(get("/bookings/{id}", bookingId).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.email").value(email));
+
+        Timer hold = meterRegistry.find(HotelMetrics.CONNECTION_HOLD).tag("endpoint", "GET /bookings/my-history").timer();
+        assertNotNull(hold, "connection hold time is recorded per endpoint");
+        assertTrue(hold.count() > 0);
+    }
+}
@@ -0,0 +1,98 @@
+package com.shrey.hotel.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+import com.shrey.hotel.service.BookingPartitions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@WithMockUser(roles = "ADMIN")
+public class BookingSearchIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired ObjectMapper mapper;
+    @Autowired UserRepository userRepository;
+    @Autowired BookingRepository bookingRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired BookingPartitions partitions;
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    void filters_combine_and_keyset_pages_follow_the_cursor() throws Exception {
+        User user = new User();
+        user.setEmail("search_" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        user.setFullName("Search Guest");
+        user = userRepository.save(user);
+        List<Room> rooms = roomRepository.findAll();
+        LocalDate day = LocalDate.of(2031, 5, 1);
+        List<Long> ids = new ArrayList<>();
+        ids.add(save(user, rooms.get(0), day, "120.00", BookingStatus.CONFIRMED));
+        ids.add(save(user, rooms.get(1), day.plusDays(7), "300.00", BookingStatus.CONFIRMED));
+        ids.add(save(user, rooms.get(0), day.plusDays(14), "80.00", BookingStatus.CANCELLED));
+
+        // Newest check-in first, two per page
+        MvcResult first = mockMvc.perform(get("/admin/bookings/search").param("email", user.getEmail().toUpperCase()).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(2)))
+                .andExpect(jsonPath("$.content[1].id").value(ids.get(1)))
+                .andReturn();
+        String cursor = mapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+        mockMvc.perform(get("/admin/bookings/search").param("email", user.getEmail()).param("size", "2").param("cursor", cursor))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(0)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        mockMvc.perform(get("/admin/bookings/search").param("email", user.getEmail())
+                        .param("roomNumber", rooms.get(0).getRoomNumber().toString()).param("status", "CONFIRMED"))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(0)));
+        mockMvc.perform(get("/admin/bookings/search").param("email", user.getEmail())
+                        .param("checkInFrom", day.plusDays(1).toString()).param("minAmount", "100"))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].id").value(ids.get(1)));
+        mockMvc.perform(get("/admin/bookings/search").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        assertNotNull(meterRegistry.find(HotelMetrics.BOOKING_SEARCH).tag("criteria", "email+status+room").timer());
+
+        bookingRepository.deleteAllById(ids);
+        userRepository.deleteById(user.getId());
+    }
+
+    private long save(User user, Room room, LocalDate checkIn, String total, BookingStatus status) {
+        partitions.ensure(checkIn);
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRooms(List.of(room));
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(new BigDecimal(total));
+        booking.setStatus(status);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(2));
+        return bookingRepository.save(booking).getId();
+    }
+}
@@ -0,0 +1,94 @@
+package com.shrey.hotel.controller;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.transaction.annotation.Transactional;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.repository.RoomRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Imports run inside the test transaction and are rolled back afterwards
+@Transactional
+@WithMockUser(roles = "ADMIN")
+public class CatalogImportIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private FoodItemRepository foodItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void csv_rooms_are_upserted_and_bad_rows_reported() throws Exception {
+        int base = 800_000 + ThreadLocalRandom.current().nextInt(50_000);
+        Room existing = roomRepository.findAll().get(0);
+        String csv = String.join("\n",
+                "room_number,room_type,price_per_night,available",
+                base + ",Standard Room,1500,true",
+                (base + 1) + ",Deluxe Room,2000.50,",
+                existing.getRoomNumber() + "," + existing.getRoomType() + ",999.99,false",
+                (base + 2) + ",Suite,not-a-price,true",
+                (base + 3) + ",,100,true",
+                "");
+
+        mockMvc.perform(post("/admin/import/rooms").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(5))
+                .andExpect(jsonPath("$.inserted").value(2))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejects[0].row").value(4))
+                .andExpect(jsonPath("$.rejects[0].error").value("price_per_night must be an amount with at most 2 decimals"))
+                .andExpect(jsonPath("$.rejects[1].error").value("room_type is required"));
+        entityManager.clear(); // the import wrote through JDBC
+
+        Room added = roomRepository.findByRoomNumber(base + 1).orElseThrow();
+        assertEquals(0, new BigDecimal("2000.50").compareTo(added.getPricePerNight()));
+        Room updated = roomRepository.findByRoomNumber(existing.getRoomNumber()).orElseThrow();
+        assertEquals(0, new BigDecimal("999.99").compareTo(updated.getPricePerNight()));
+        assertFalse(updated.getAvailable());
+    }
+
+    @Test
+    void ndjson_food_items_accept_api_field_names() throws Exception {
+        String name = "Imported Dish " + ThreadLocalRandom.current().nextInt(1_000_000);
+        String ndjson = String.join("\n",
+                "{\"name\":\"" + name + "\",\"cuisine\":\"Thai\",\"price\":320,\"imageUrl\":\"http://example.com/dish.jpg\"}",
+                "{\"name\":\"" + name + "\",\"cuisine\":\"Thai\",\"price\":340}",
+                "{not json",
+                "");
+        long before = foodItemRepository.count();
+
+        mockMvc.perform(post("/admin/import/food-items").contentType("application/x-ndjson").content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.inserted").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejects[0].row").value(1))
+                .andExpect(jsonPath("$.rejects[1].error").value("invalid JSON"));
+
+        assertEquals(before + 1, foodItemRepository.count());
+    }
+
+    @Test
+    void unknown_csv_column_is_refused() throws Exception {
+        mockMvc.perform(post("/admin/import/rooms").contentType("text/csv").content("room_number,floor\n101,1\n"))
+                .andExpect(status().isBadRequest());
+    }
+}
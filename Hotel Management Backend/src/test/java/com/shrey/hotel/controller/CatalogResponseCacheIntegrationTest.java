@@ -0,0 +1,75 @@
+package com.shrey.hotel.controller;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.repository.RoomRepository;
+
+public class CatalogResponseCacheIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Test
+    void repeat_request_with_etag_gets_304() throws Exception {
+        MvcResult first = mockMvc.perform(get("/food-items").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+
+        mockMvc.perform(get("/food-items").param("size", "1000").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void gzip_variant_has_same_content() throws Exception {
+        byte[] plain = mockMvc.perform(get("/rooms").param("size", "1000"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        MvcResult gzipped = mockMvc.perform(get("/rooms").param("size", "1000").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getResponse().getContentAsByteArray()))) {
+            assertArrayEquals(plain, in.readAllBytes());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @SuppressWarnings("null")
+    void admin_room_write_changes_etag() throws Exception {
+        Room room = roomRepository.findAll().get(0);
+        boolean available = room.getAvailable();
+        String before = mockMvc.perform(get("/rooms").param("size", "1000"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        try {
+            mockMvc.perform(put("/admin/rooms/{id}/availability", room.getId()).param("available", String.valueOf(!available)))
+                    .andExpect(status().isOk());
+            String after = mockMvc.perform(get("/rooms").param("size", "1000"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+            assertNotEquals(before, after);
+        } finally {
+            mockMvc.perform(put("/admin/rooms/{id}/availability", room.getId()).param("available", String.valueOf(available)));
+        }
+    }
+}
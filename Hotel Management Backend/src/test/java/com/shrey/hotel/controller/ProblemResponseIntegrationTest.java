@@ -0,0 +1,83 @@
+package com.shrey.hotel.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.exception.NotFoundException;
+import com.shrey.hotel.exception.ValidationException;
+import com.shrey.hotel.observability.HotelMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@WithMockUser(roles = "ADMIN")
+public class ProblemResponseIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired MeterRegistry meterRegistry;
+
+    @Test
+    void missing_row_is_a_counted_404_problem() throws Exception {
+        double before = errors("GET /admin/users/{id}", "not_found");
+
+        mockMvc.perform(get("/admin/users/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.type").value("urn:hotel:problem:not-found"))
+                .andExpect(jsonPath("$.title").value("Resource not found"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.detail").value("User not found"))
+                .andExpect(jsonPath("$.error").value("User not found"));
+
+        assertEquals(before + 1, errors("GET /admin/users/{id}", "not_found"));
+    }
+
+    @Test
+    void public_lookups_of_missing_ids_are_counted_too() throws Exception {
+        double rooms = errors("GET /rooms/{id}", "not_found");
+        double food = errors("GET /food-items/{id}", "not_found");
+
+        mockMvc.perform(get("/rooms/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Room not found"));
+        mockMvc.perform(get("/food-items/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.detail").value("Food item not found"));
+
+        assertEquals(rooms + 1, errors("GET /rooms/{id}", "not_found"));
+        assertEquals(food + 1, errors("GET /food-items/{id}", "not_found"));
+    }
+
+    @Test
+    void quotes_past_the_stay_cap_are_rejected() throws Exception {
+        // Checked before the room lookup, so no room is needed
+        mockMvc.perform(get("/rooms/{id}/quote", Long.MAX_VALUE).param("checkIn", "0001-01-01").param("checkOut", "9999-12-31"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.type").value("urn:hotel:problem:validation"));
+    }
+
+    @Test
+    void malformed_dates_are_validation_problems() {
+        assertEquals("checkInDate must be a date like 2025-01-31",
+                assertThrows(ValidationException.class, () -> RequestDates.parse("checkInDate", "2025-13-45")).getMessage());
+        assertNull(RequestDates.parse("effectiveTo", null));
+    }
+
+    @Test
+    void domain_exceptions_skip_the_stack_trace() {
+        assertEquals(0, new NotFoundException("Room not found").getStackTrace().length);
+    }
+
+    private double errors(String endpoint, String type) {
+        var counter = meterRegistry.find(HotelMetrics.REQUEST_ERRORS).tags("endpoint", endpoint, "type", type).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,97 @@
+package com.shrey.hotel.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.notNullValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.SqlStatsFilter;
+import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.repository.RoomRepository;
+
+public class SqlStatementBudgetIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private FoodItemRepository foodItemRepository;
+
+    @Test
+    void responses_carry_sql_headers() throws Exception {
+        mockMvc.perform(get("/rooms"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsFilter.COUNT_HEADER, notNullValue()))
+                .andExpect(header().string(SqlStatsFilter.TIME_HEADER, notNullValue()));
+    }
+
+    @Test
+    void catalog_pages_are_one_select_plus_count() throws Exception {
+        mockMvc.perform(get("/rooms").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+        mockMvc.perform(get("/food-items").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+        mockMvc.perform(get("/rooms/available"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void jdbc_template_statements_are_counted() throws Exception {
+        // The user directory bypasses Hibernate: a count and the page query, both through JdbcTemplate
+        mockMvc.perform(get("/admin/users/directory"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlStatsFilter.COUNT_HEADER, "2"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void booking_search_page_batches_its_collections() throws Exception {
+        // Page select with the user joined, then one batched select each for rooms and food items
+        mockMvc.perform(get("/admin/bookings/search").param("size", "100"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+    }
+
+    @Test
+    @WithMockUser // /cart requires authentication; a mock principal keeps the JWT user lookup out of the count
+    @SuppressWarnings("null")
+    void cart_recalculation_stays_within_budget() throws Exception {
+        String sessionId = "budget-" + UUID.randomUUID();
+        List<Room> rooms = roomRepository.findAll().subList(0, 3);
+        FoodItem food = foodItemRepository.findAll().get(0);
+        for (Room room : rooms) {
+            mockMvc.perform(post("/cart/rooms")
+                    .header("Session-Id", sessionId)
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .content(objectMapper.writeValueAsString(Map.of("roomId", room.getId()))))
+                    .andExpect(status().isOk());
+        }
+        // Recalculating 3 rooms + 1 food: one findAllById per catalog
+        mockMvc.perform(post("/cart/food")
+                .header("Session-Id", sessionId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(Map.of("foodItemId", food.getId(), "quantity", 2))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2));
+    }
+}
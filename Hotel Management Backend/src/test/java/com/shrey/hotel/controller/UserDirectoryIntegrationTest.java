@@ -0,0 +1,83 @@
+package com.shrey.hotel.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+import com.shrey.hotel.service.BookingPartitions;
+
+@WithMockUser(roles = "ADMIN")
+public class UserDirectoryIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired UserRepository userRepository;
+    @Autowired BookingRepository bookingRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired BookingPartitions partitions;
+
+    @Test
+    void directory_matches_prefixes_and_aggregates_bookings_in_sql() throws Exception {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setEmail("Dir_" + tag + "@example.com");
+        user.setPasswordHash("secret-hash");
+        user.setFullName("Directory " + tag);
+        user = userRepository.save(user);
+        LocalDate stay = LocalDate.now().minusDays(10);
+        long kept = save(user, stay, "250.00", BookingStatus.COMPLETED);
+        long cancelled = save(user, stay.plusDays(2), "99.00", BookingStatus.CANCELLED);
+
+        mockMvc.perform(get("/admin/users/directory").param("q", "dir_" + tag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].bookings").value(2))
+                .andExpect(jsonPath("$.content[0].totalSpent").value(250.00))
+                .andExpect(jsonPath("$.content[0].lastStay").value(stay.toString()));
+        // Name prefix, case-insensitive; LIKE wildcards in the query are literal
+        mockMvc.perform(get("/admin/users/directory").param("q", "DIRECTORY " + tag))
+                .andExpect(jsonPath("$.totalElements").value(1));
+        mockMvc.perform(get("/admin/users/directory").param("q", "dir%" + tag))
+                .andExpect(jsonPath("$.totalElements").value(0));
+        // The plain user list is the same paged projection, never the full entities
+        mockMvc.perform(get("/admin/users").param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.content[0].passwordHash").doesNotExist());
+
+        mockMvc.perform(get("/admin/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.user.passwordHash").doesNotExist())
+                .andExpect(jsonPath("$.totalBookings").value(2))
+                .andExpect(jsonPath("$.bookings.length()").value(2));
+
+        bookingRepository.deleteAllById(List.of(kept, cancelled));
+        userRepository.deleteById(user.getId());
+    }
+
+    private long save(User user, LocalDate checkIn, String total, BookingStatus status) {
+        partitions.ensure(checkIn);
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRooms(List.of(roomRepository.findAll().get(0)));
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(new BigDecimal(total));
+        booking.setStatus(status);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(1));
+        return bookingRepository.save(booking).getId();
+    }
+}
@@ -0,0 +1,150 @@
+package com.shrey.hotel.datasource;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Stand-in pools and a fake lag probe: only the routing decision is under test, no database needed
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = fake("primary");
+    private final DataSource replicaA = fake("replica-a");
+    private final DataSource replicaB = fake("replica-b");
+    private final Map<DataSource, Long> lag = new HashMap<>();
+    private final AtomicLong now = new AtomicLong(1_000);
+
+    private DataSourcePools pools;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-a", replicaA);
+        replicas.put("replica-b", replicaB);
+        lag.put(replicaA, 0L);
+        lag.put(replicaB, 0L);
+        pools = new DataSourcePools(primary, replicas, replica -> {
+            Long millis = lag.get(replica);
+            if (millis == null) throw new SQLException("connection refused");
+            return millis;
+        }, Duration.ofMillis(500));
+        pools.refreshHealth();
+        tracker = new ReadYourWritesTracker(5_000, now::get);
+        routing = new ReplicaRoutingDataSource(pools, tracker, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writes_go_to_primary_and_reads_rotate_over_replicas() {
+        assertEquals(DataSourcePools.PRIMARY, inTransaction(false));
+        assertEquals(Set.of("replica-a", "replica-b"), Set.of(inTransaction(true), inTransaction(true)));
+    }
+
+    @Test
+    void work_outside_a_transaction_uses_primary() {
+        assertEquals(DataSourcePools.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void lagging_or_down_replicas_are_skipped() {
+        lag.put(replicaA, 5_000L);
+        lag.remove(replicaB);
+        pools.refreshHealth();
+        assertEquals(DataSourcePools.PRIMARY, inTransaction(true));
+
+        lag.put(replicaB, 100L);
+        pools.refreshHealth();
+        assertEquals("replica-b", inTransaction(true));
+        assertEquals("replica-b", inTransaction(true));
+    }
+
+    @Test
+    void writer_reads_stick_to_primary_for_the_window() {
+        signIn("alice");
+        inTransaction(false);
+        assertEquals(DataSourcePools.PRIMARY, inTransaction(true));
+
+        signIn("bob");
+        assertNotEquals(DataSourcePools.PRIMARY, inTransaction(true), "other users still read from replicas");
+
+        signIn("alice");
+        now.addAndGet(5_000);
+        assertNotEquals(DataSourcePools.PRIMARY, inTransaction(true), "stickiness expires after the window");
+    }
+
+    @Test
+    void anonymous_writes_never_stick() {
+        // Behind a proxy every anonymous client shares an address; one write must not pin them all
+        inTransaction(false);
+        assertNotEquals(DataSourcePools.PRIMARY, inTransaction(true));
+    }
+
+    @Test
+    void signup_makes_the_new_account_sticky() {
+        tracker.recordWrite("carol");
+        assertNotEquals(DataSourcePools.PRIMARY, inTransaction(true), "still anonymous");
+        signIn("carol");
+        assertEquals(DataSourcePools.PRIMARY, inTransaction(true));
+    }
+
+    @Test
+    void pinned_reads_use_the_primary() {
+        assertEquals(DataSourcePools.PRIMARY, ReplicaRoutingDataSource.onPrimary(() -> inTransaction(true)));
+        assertNotEquals(DataSourcePools.PRIMARY, inTransaction(true), "the pin ends with the work");
+    }
+
+    @Test
+    void nothing_is_routed_to_an_unchecked_replica() {
+        DataSourcePools unchecked = new DataSourcePools(primary, Map.of("replica-a", replicaA), replica -> 0, Duration.ofSeconds(1));
+        ReplicaRoutingDataSource fresh = new ReplicaRoutingDataSource(unchecked, new ReadYourWritesTracker(5_000, now::get), new SimpleMeterRegistry());
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(DataSourcePools.PRIMARY, fresh.determineCurrentLookupKey());
+    }
+
+    private Object inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return routing.determineCurrentLookupKey();
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    private static DataSource fake(String name) {
+        return (DataSource) Proxy.newProxyInstance(DataSource.class.getClassLoader(), new Class<?>[] {DataSource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> name;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(name + "." + method.getName());
+                });
+    }
+}
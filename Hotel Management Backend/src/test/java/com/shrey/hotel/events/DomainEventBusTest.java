@@ -0,0 +1,75 @@
+package com.shrey.hotel.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.service.CatalogResponseCache.Catalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class DomainEventBusTest {
+
+    private static final int PUBLISHERS = 4;
+    private static final int EVENTS_PER_PUBLISHER = 5_000;
+
+    // Records sequences on its own thread; read only after the latch
+    private static final class Recorder implements DomainEventConsumer {
+        private final List<Long> sequences = new ArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(PUBLISHERS * EVENTS_PER_PUBLISHER);
+        private final boolean failing;
+
+        Recorder(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public String name() {
+            return failing ? "failing" : "recorder";
+        }
+
+        @Override
+        public void onEvent(DomainEvent event, long sequence, boolean endOfBatch) {
+            sequences.add(sequence);
+            done.countDown();
+            if (failing) throw new IllegalStateException("boom");
+        }
+    }
+
+    @Test
+    void every_consumer_sees_every_event_in_order_through_a_small_ring() throws Exception {
+        Recorder recorder = new Recorder(false);
+        Recorder failing = new Recorder(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DomainEventBus bus = new DomainEventBus(List.of(recorder, failing), new HotelMetrics(registry), 64);
+        bus.start();
+        try {
+            List<Thread> publishers = new ArrayList<>();
+            for (int p = 0; p < PUBLISHERS; p++) {
+                Thread publisher = new Thread(() -> {
+                    for (int i = 0; i < EVENTS_PER_PUBLISHER; i++) bus.publish(new CatalogChanged(Catalog.ROOMS));
+                });
+                publishers.add(publisher);
+                publisher.start();
+            }
+            for (Thread publisher : publishers) publisher.join();
+
+            assertTrue(recorder.done.await(10, TimeUnit.SECONDS), "recorder did not catch up");
+            assertTrue(failing.done.await(10, TimeUnit.SECONDS), "a failing consumer must keep consuming");
+        } finally {
+            bus.stop();
+        }
+
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, recorder.sequences.size());
+        for (int i = 0; i < recorder.sequences.size(); i++) assertEquals((long) i, recorder.sequences.get(i).longValue());
+        assertEquals(PUBLISHERS * EVENTS_PER_PUBLISHER, (long) registry.get(HotelMetrics.EVENTS_HANDLED)
+                .tags("consumer", "failing", "outcome", "failed").counter().count());
+        assertEquals(0.0, registry.get(HotelMetrics.EVENTS_LAG).tag("consumer", "recorder").gauge().value());
+    }
+}
@@ -0,0 +1,81 @@
+package com.shrey.hotel.observability;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.test.context.support.WithMockUser;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.repository.RoomRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+public class SqlStatsRegistryTest extends BaseIntegrationTest {
+
+    @Autowired
+    private SqlStatsRegistry sqlStats;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Test
+    void fingerprint_strips_literals_and_collapses_in_lists() {
+        assertEquals("select * from rooms where room_type=? and id in (?...)",
+                SqlStatsRegistry.fingerprint("SELECT *\n  FROM rooms WHERE room_type='DELUXE' AND id IN (1, 2,3)"));
+        assertEquals("select r1_0.id from rooms r1_0 where r1_0.price_per_night between ? and ?",
+                SqlStatsRegistry.fingerprint("select r1_0.id from rooms r1_0 where r1_0.price_per_night between ? and ?"));
+    }
+
+    @Test
+    void wrapped_pool_is_still_closeable() throws Exception {
+        HikariDataSource pool = new HikariDataSource();
+        DataSource wrapped = ProfilingDataSource.wrap(pool, sqlStats, nanos -> {});
+        assertTrue(wrapped instanceof Closeable);
+        ((Closeable) wrapped).close();
+        assertTrue(pool.isClosed());
+    }
+
+    @Test
+    void table_is_bounded() {
+        SqlStatsRegistry small = new SqlStatsRegistry(2, 10_000);
+        for (int i = 0; i < 10; i++) {
+            small.executed(small.statFor("select * from t" + (char) ('a' + i)), 1_000, false, List.of());
+        }
+        assertEquals(3, small.size()); // two fingerprints plus the overflow row
+        assertTrue(small.top(10, "calls").stream().anyMatch(row -> SqlStatsRegistry.OVERFLOW.equals(row.get("sql"))));
+    }
+
+    @Test
+    void repository_queries_are_recorded_with_rows() {
+        sqlStats.reset();
+        roomRepository.findByRoomType("DELUXE");
+        roomRepository.findByRoomType("STANDARD");
+
+        Map<String, Object> byType = sqlStats.top(50, "calls").stream()
+                .filter(row -> row.get("sql").toString().contains("room_type=?"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2L, byType.get("calls"));
+        assertTrue((Long) byType.get("rows") > 0);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void admin_endpoint_lists_top_statements() throws Exception {
+        roomRepository.findAll();
+        mockMvc.perform(get("/admin/perf/sql").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fingerprints", greaterThan(0)))
+                .andExpect(jsonPath("$.statements[0].calls", greaterThan(0)));
+    }
+}
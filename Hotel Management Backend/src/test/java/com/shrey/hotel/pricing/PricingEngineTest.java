@@ -0,0 +1,77 @@
+package com.shrey.hotel.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+
+public class PricingEngineTest {
+
+    @Test
+    void amounts_round_half_up_to_the_minor_unit() {
+        assertEquals(150_000, Money.toMinor(new BigDecimal("1500")));
+        assertEquals(1_001, Money.toMinor(new BigDecimal("10.005")));
+        assertEquals(1_000, Money.toMinor(new BigDecimal("10.0049")));
+        assertEquals(0, Money.toMinor(null));
+        assertEquals(new BigDecimal("12.34"), Money.toDecimal(1_234));
+    }
+
+    @Test
+    void nights_need_both_dates_and_are_at_least_one() {
+        LocalDate june10 = LocalDate.of(2025, 6, 10);
+        assertEquals(0, PricingEngine.nights(june10, null));
+        assertEquals(1, PricingEngine.nights(june10, june10));
+        assertEquals(4, PricingEngine.nights(june10, LocalDate.of(2025, 6, 14)));
+    }
+
+    @Test
+    void stay_total_matches_the_decimal_computation() {
+        List<Room> rooms = List.of(room("1500.00"), room("2250.50"));
+        List<FoodItem> food = List.of(food(1L, "120.10"), food(2L, "99.99"), food(3L, "45.00"));
+        Map<Long, Integer> quantities = Map.of(1L, 3, 2L, 2);
+
+        long total = PricingEngine.stayTotal(rooms, 4, food, quantities, 1);
+
+        BigDecimal expected = new BigDecimal("1500.00").add(new BigDecimal("2250.50")).multiply(BigDecimal.valueOf(4))
+                .add(new BigDecimal("120.10").multiply(BigDecimal.valueOf(3)))
+                .add(new BigDecimal("99.99").multiply(BigDecimal.valueOf(2)))
+                .add(new BigDecimal("45.00"));
+        assertEquals(expected, Money.toDecimal(total));
+    }
+
+    @Test
+    void cached_price_follows_a_replaced_price() {
+        Room room = room("100.00");
+        assertEquals(10_000, room.pricePerNightMinor());
+        room.setPricePerNight(new BigDecimal("120.00"));
+        assertEquals(12_000, room.pricePerNightMinor());
+    }
+
+    @Test
+    void negative_quantity_and_overflow_are_rejected() {
+        List<FoodItem> food = List.of(food(1L, "10.00"));
+        assertThrows(IllegalArgumentException.class, () -> PricingEngine.foodCharges(food, Map.of(1L, -1), 1));
+        assertThrows(ArithmeticException.class,
+                () -> PricingEngine.roomCharges(List.of(room("92233720368547758.07")), 2));
+    }
+
+    private static Room room(String price) {
+        Room room = new Room();
+        room.setPricePerNight(new BigDecimal(price));
+        return room;
+    }
+
+    private static FoodItem food(Long id, String price) {
+        FoodItem item = new FoodItem();
+        item.setId(id);
+        item.setPrice(new BigDecimal(price));
+        return item;
+    }
+}
@@ -0,0 +1,48 @@
+package com.shrey.hotel.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.SqlStatementStats;
+
+// Pooled sequence ids let Hibernate batch inserts instead of one round trip per row
+@Transactional
+public class BatchInsertIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Test
+    void saveAll_sends_rows_as_one_batch() {
+        int base = 900_000 + ThreadLocalRandom.current().nextInt(50_000);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Room room = new Room();
+            room.setRoomNumber(base + i);
+            room.setRoomType("STANDARD");
+            room.setPricePerNight(BigDecimal.valueOf(100));
+            rooms.add(room);
+        }
+
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            roomRepository.saveAllAndFlush(rooms);
+        } finally {
+            SqlStatementStats.end();
+        }
+
+        assertEquals(20, rooms.stream().map(Room::getId).distinct().count());
+        // One sequence call for the id block plus one batched INSERT
+        assertTrue(stats.statements() <= 3, "20 inserts issued " + stats.statements() + " statements");
+    }
+}
@@ -0,0 +1,71 @@
+package com.shrey.hotel.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.service.BookingPartitions;
+
+// bookings is range-partitioned by check-in month (V10); join rows are kept consistent by triggers
+public class BookingPartitionIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired BookingRepository bookingRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired BookingPartitions partitions;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void booking_lands_in_its_month_and_delete_removes_join_rows() {
+        User user = new User();
+        user.setEmail("partition_" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        user.setFullName("Partition User");
+        user = userRepository.save(user);
+
+        // Far outside the months kept ahead, so the partition is created on demand
+        LocalDate checkIn = LocalDate.of(2041, 3, 14);
+        partitions.ensure(checkIn);
+        partitions.ensure(checkIn.minusMonths(1));
+        partitions.ensure(checkIn.plusMonths(1));
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRooms(List.of(roomRepository.findAll().get(0)));
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(BigDecimal.valueOf(100));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(2));
+        long id = bookingRepository.save(booking).getId();
+
+        assertEquals("bookings_2041_03", jdbc.queryForObject(
+                "SELECT tableoid::regclass::text FROM bookings WHERE id = ? AND check_in_date = ?", String.class, id, checkIn));
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM booking_rooms WHERE booking_id = ?", Integer.class, id));
+
+        // The ranged history finds the stay and the plan reads only that month's partition
+        var page = bookingRepository.findByUserCheckingIn(user, checkIn.withDayOfMonth(1), checkIn.plusMonths(1).withDayOfMonth(1),
+                PageRequest.of(0, 10));
+        assertEquals(List.of(id), page.map(Booking::getId).getContent());
+        String plan = String.join("\n", jdbc.queryForList("EXPLAIN SELECT id FROM bookings WHERE user_id = " + user.getId()
+                + " AND check_in_date >= DATE '2041-03-01' AND check_in_date < DATE '2041-04-01'", String.class));
+        assertTrue(plan.contains("bookings_2041_03"), plan);
+        assertFalse(plan.contains("bookings_2041_02") || plan.contains("bookings_2041_04"), plan);
+
+        jdbc.update("DELETE FROM bookings WHERE id = ? AND check_in_date = ?", id, checkIn);
+        assertEquals(0, jdbc.queryForObject("SELECT count(*) FROM booking_rooms WHERE booking_id = ?", Integer.class, id));
+        userRepository.deleteById(user.getId());
+    }
+}
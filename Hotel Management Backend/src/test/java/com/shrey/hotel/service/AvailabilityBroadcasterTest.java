@@ -0,0 +1,109 @@
+package com.shrey.hotel.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.events.RoomAvailabilityChanged;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.service.AvailabilityBroadcaster.Frame;
+import com.shrey.hotel.service.AvailabilityBroadcaster.Sink;
+
+public class AvailabilityBroadcasterTest {
+
+    private static final class RecordingSink implements Sink {
+        final List<Frame> frames = new ArrayList<>();
+        boolean closed;
+
+        @Override
+        public void send(Frame frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        List<String> names() {
+            return frames.stream().map(Frame::name).toList();
+        }
+    }
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+
+    private AvailabilityBroadcaster broadcaster(Executor senders) {
+        // Scheduler not started: the test drives flush() itself
+        return new AvailabilityBroadcaster(new ObjectMapper(), roomRepository, senders, 4, 8,
+                Duration.ofMillis(200), Duration.ofSeconds(15), Duration.ofMinutes(1));
+    }
+
+    private static RoomAvailabilityChanged change(long roomId, boolean available) {
+        return new RoomAvailabilityChanged(roomId, 100 + (int) roomId, "DELUXE", available);
+    }
+
+    @Test
+    void a_burst_becomes_one_frame_with_the_latest_state_per_room() {
+        AvailabilityBroadcaster broadcaster = broadcaster(Runnable::run);
+        RecordingSink sink = new RecordingSink();
+        broadcaster.attach(sink, null);
+
+        broadcaster.onEvent(change(1, false), 0, false);
+        broadcaster.onEvent(change(2, false), 1, false);
+        broadcaster.onEvent(change(1, true), 2, true);
+        broadcaster.flush();
+        broadcaster.flush(); // nothing pending: no frame
+
+        assertEquals(List.of("ready", "availability"), sink.names());
+        assertEquals("[{\"roomId\":2,\"roomNumber\":102,\"available\":false},{\"roomId\":1,\"roomNumber\":101,\"available\":true}]",
+                sink.frames.get(1).data());
+    }
+
+    @Test
+    void reconnect_replays_missed_frames_or_falls_back_to_a_snapshot() {
+        AvailabilityBroadcaster broadcaster = broadcaster(Runnable::run);
+        for (int i = 1; i <= 3; i++) {
+            broadcaster.onEvent(change(i, false), i, true);
+            broadcaster.flush();
+        }
+
+        RecordingSink resumed = new RecordingSink();
+        broadcaster.attach(resumed, broadcaster.eventId(1));
+        assertEquals(List.of(2L, 3L), resumed.frames.stream().map(Frame::seq).toList());
+
+        Room room = new Room();
+        room.setId(9L);
+        room.setRoomNumber(109);
+        room.setAvailable(true);
+        when(roomRepository.findAll()).thenReturn(List.of(room));
+        RecordingSink foreign = new RecordingSink();
+        broadcaster.attach(foreign, "previous-process-2");
+        assertEquals(List.of("snapshot"), foreign.names());
+        assertEquals(3L, foreign.frames.get(0).seq());
+        assertEquals("[{\"roomId\":9,\"roomNumber\":109,\"available\":true}]", foreign.frames.get(0).data());
+    }
+
+    @Test
+    void client_that_stops_draining_is_disconnected() {
+        AvailabilityBroadcaster broadcaster = broadcaster(task -> {}); // sender never runs
+        RecordingSink stuck = new RecordingSink();
+        broadcaster.attach(stuck, null);
+
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.onEvent(change(i, false), i, true);
+            broadcaster.flush();
+        }
+
+        assertTrue(stuck.closed);
+        assertEquals(0, broadcaster.subscribers());
+    }
+}
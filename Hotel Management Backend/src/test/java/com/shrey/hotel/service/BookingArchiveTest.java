@@ -0,0 +1,81 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+
+public class BookingArchiveTest extends BaseIntegrationTest {
+
+    @Autowired BookingArchive archive;
+    @Autowired BookingService bookingService;
+    @Autowired BookingPartitions partitions;
+    @Autowired BookingRepository bookingRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void finished_old_bookings_move_and_history_pages_into_the_archive() {
+        User user = new User();
+        user.setEmail("archive_" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        user.setFullName("Archive User");
+        user = userRepository.save(user);
+        Room room = roomRepository.findAll().get(0);
+
+        long old = save(user, room, LocalDate.of(2020, 1, 5), BookingStatus.COMPLETED);
+        long recent = save(user, room, LocalDate.now().plusDays(3), BookingStatus.CONFIRMED);
+
+        assertTrue(archive.archive() >= 1);
+        assertTrue(bookingRepository.findById(old).isEmpty());
+        assertTrue(bookingRepository.findById(recent).isPresent());
+        assertEquals(1, jdbc.queryForObject("SELECT count(*) FROM booking_rooms_archive WHERE booking_id = ?", Integer.class, old));
+
+        // One hot booking on page 0; page 1 continues into the archive with its room
+        PageRequest first = PageRequest.of(0, 1, Sort.by("createdAt").descending());
+        Page<Booking> page = bookingService.history(user, null, first);
+        assertEquals(2, page.getTotalElements());
+        assertEquals(recent, page.getContent().get(0).getId());
+        Booking archived = bookingService.history(user, null, first.next()).getContent().get(0);
+        assertEquals(old, archived.getId());
+        assertEquals(BookingStatus.COMPLETED, archived.getStatus());
+        assertEquals(List.of(room.getId()), archived.getRooms().stream().map(Room::getId).toList());
+        assertEquals(0, bookingService.history(user, BookingStatus.CONFIRMED, first.next()).getNumberOfElements());
+
+        jdbc.update("DELETE FROM bookings_archive WHERE user_id = ?", user.getId());
+        bookingRepository.deleteById(recent);
+        userRepository.deleteById(user.getId());
+    }
+
+    private long save(User user, Room room, LocalDate checkIn, BookingStatus status) {
+        partitions.ensure(checkIn);
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRooms(List.of(room));
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(BigDecimal.valueOf(100));
+        booking.setStatus(status);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkIn.plusDays(1));
+        return bookingRepository.save(booking).getId();
+    }
+}
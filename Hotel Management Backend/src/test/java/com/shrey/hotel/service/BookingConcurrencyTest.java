@@ -56,9 +56,10 @@ public class BookingConcurrencyTest extends BaseIntegrationTest {
         long fail = results.stream().filter(b -> !b).count();
         
         System.out.println("Successes: " + success + ", Failures: " + fail + ", Total: " + results.size());
-        
-        // With synchronized booking, typically 1 succeeds, but race conditions may allow 2-3
-        assertTrue(success >= 1 && success <= 3, "1-3 bookings should succeed");
+        bookingService.releaseRoom(roomNumber);
+
+        // The conditional UPDATE admits exactly one winner
+        assertEquals(1, success, "exactly one booking should succeed");
         assertEquals(threads, results.size(), "All threads should report results");
     }
 }
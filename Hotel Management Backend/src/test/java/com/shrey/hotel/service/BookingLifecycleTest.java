@@ -0,0 +1,81 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+
+public class BookingLifecycleTest extends BaseIntegrationTest {
+
+    @Autowired BookingLifecycle lifecycle;
+    @Autowired BookingPartitions partitions;
+    @Autowired BookingRepository bookingRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired RoomRepository roomRepository;
+
+    @Test
+    void checked_out_bookings_complete_and_free_rooms_not_held_by_another_stay() {
+        User user = new User();
+        user.setEmail("lifecycle_" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        user.setFullName("Lifecycle User");
+        user = userRepository.save(user);
+        int base = 700_000 + ThreadLocalRandom.current().nextInt(50_000);
+        Room freed = room(base);
+        Room stillHeld = room(base + 1);
+        LocalDate today = LocalDate.now();
+
+        long done = save(user, List.of(freed, stillHeld), today.minusDays(3), today, BookingStatus.CONFIRMED);
+        long next = save(user, List.of(stillHeld), today, today.plusDays(2), BookingStatus.CONFIRMED);
+
+        BookingLifecycle.Result result = lifecycle.process();
+
+        assertTrue(result.completed() >= 1);
+        assertEquals(BookingStatus.COMPLETED, bookingRepository.findById(done).orElseThrow().getStatus());
+        assertEquals(BookingStatus.CONFIRMED, bookingRepository.findById(next).orElseThrow().getStatus());
+        assertTrue(roomRepository.findById(freed.getId()).orElseThrow().getAvailable());
+        assertFalse(roomRepository.findById(stillHeld.getId()).orElseThrow().getAvailable());
+
+        bookingRepository.deleteAllById(List.of(done, next));
+        roomRepository.deleteAllById(List.of(freed.getId(), stillHeld.getId()));
+        userRepository.deleteById(user.getId());
+    }
+
+    private Room room(int number) {
+        Room room = new Room();
+        room.setRoomNumber(number);
+        room.setRoomType("STANDARD");
+        room.setPricePerNight(BigDecimal.valueOf(100));
+        room.setAvailable(false);
+        return roomRepository.save(room);
+    }
+
+    private long save(User user, List<Room> rooms, LocalDate checkIn, LocalDate checkOut, BookingStatus status) {
+        partitions.ensure(checkIn);
+        Booking booking = new Booking();
+        booking.setUser(user);
+        booking.setRooms(rooms);
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(BigDecimal.valueOf(100));
+        booking.setStatus(status);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        return bookingRepository.save(booking).getId();
+    }
+}
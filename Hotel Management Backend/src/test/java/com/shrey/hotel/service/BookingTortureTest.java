@@ -0,0 +1,408 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+import com.shrey.hotel.service.BookingService.LockingStrategy;
+
+/**
+ * Mixed concurrent workload against dedicated rooms: bookings over random date ranges, cancellations, holds and
+ * releases of room availability, availability reads and admin price edits. Every operation is recorded with its
+ * invoke and return time, then checked:
+ * <ul>
+ *   <li>no room has two live stays overlapping, both in the database and in the recorded history;</li>
+ *   <li>every refused booking overlapped a stay that could have been live at the time;</li>
+ *   <li>per room, the availability holds, releases and reads are linearizable as a single register.</li>
+ * </ul>
+ * Runs once per locking strategy and prints throughput and latency percentiles per operation. Size it with
+ * -Dtorture.ops, -Dtorture.threads, -Dtorture.rooms, -Dtorture.days (check-in window) and -Dtorture.skew
+ * (Zipf exponent over rooms; 0 is uniform, higher piles more traffic onto the first rooms).
+ */
+public class BookingTortureTest extends BaseIntegrationTest {
+
+    private static final int OPS = Integer.getInteger("torture.ops", 2_000);
+    private static final int THREADS = Integer.getInteger("torture.threads", 8);
+    private static final int ROOMS = Integer.getInteger("torture.rooms", 12);
+    private static final int DAYS = Integer.getInteger("torture.days", 30);
+    private static final double SKEW = Double.parseDouble(System.getProperty("torture.skew", "1.1"));
+    private static final LocalDate WINDOW_START = LocalDate.of(2046, 3, 1);
+
+    @Autowired BookingService bookingService;
+    @Autowired BookingPartitions partitions;
+    @Autowired BookingRepository bookingRepository;
+    @Autowired RoomRepository roomRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbc;
+
+    private enum Op { CREATE, CANCEL, HOLD, RELEASE, READ, ADMIN_EDIT }
+
+    private enum Outcome { OK, REFUSED, STALE, ERROR }
+
+    // One completed operation; value is the availability a READ saw
+    private record Event(Op op, List<Long> roomIds, LocalDate checkIn, LocalDate checkOut, long bookingId,
+                         long invoked, long returned, Outcome outcome, boolean value, String error) {}
+
+    @Test
+    void row_locks_keep_stays_disjoint_and_availability_linearizable() throws Exception {
+        torture(LockingStrategy.ROW_LOCK);
+    }
+
+    @Test
+    void advisory_locks_keep_stays_disjoint_and_availability_linearizable() throws Exception {
+        torture(LockingStrategy.ADVISORY_LOCK);
+    }
+
+    @Test
+    void missing_check_out_is_a_one_night_stay() {
+        User guest = newGuest();
+        Room room = newRooms(1).get(0);
+        LocalDate checkIn = WINDOW_START.plusDays(3);
+        partitions.ensure(checkIn);
+        List<Long> created = new ArrayList<>();
+        try {
+            var first = bookingService.createBooking(openEndedBooking(guest, room, checkIn));
+            assertTrue(first.isPresent());
+            created.add(first.get().getId());
+            assertEquals(checkIn.plusDays(1), first.get().getCheckOutDate());
+            assertTrue(bookingService.createBooking(openEndedBooking(guest, room, checkIn)).isEmpty(),
+                    "a second open-ended booking of the same night must be refused");
+            var next = bookingService.createBooking(openEndedBooking(guest, room, checkIn.plusDays(1)));
+            assertTrue(next.isPresent(), "the following night is free");
+            created.add(next.get().getId());
+        } finally {
+            bookingRepository.deleteAllById(created);
+            roomRepository.deleteById(room.getId());
+            userRepository.deleteById(guest.getId());
+        }
+    }
+
+    private static Booking openEndedBooking(User guest, Room room, LocalDate checkIn) {
+        Booking booking = new Booking();
+        booking.setUser(guest);
+        booking.setRooms(List.of(room));
+        booking.setFoodItems(List.of());
+        booking.setTotalAmount(BigDecimal.valueOf(100));
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setCheckInDate(checkIn);
+        return booking;
+    }
+
+    private User newGuest() {
+        User user = new User();
+        user.setEmail("torture_" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("x");
+        user.setFullName("Torture User");
+        return userRepository.save(user);
+    }
+
+    private List<Room> newRooms(int count) {
+        int base = 600_000 + ThreadLocalRandom.current().nextInt(90_000);
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Room room = new Room();
+            room.setRoomNumber(base + i);
+            room.setRoomType("STANDARD");
+            room.setPricePerNight(BigDecimal.valueOf(100));
+            room.setAvailable(true);
+            rooms.add(roomRepository.save(room));
+        }
+        return rooms;
+    }
+
+    private void torture(LockingStrategy strategy) throws Exception {
+        User guest = newGuest();
+        List<Room> rooms = newRooms(ROOMS);
+        for (LocalDate month = WINDOW_START; !month.isAfter(WINDOW_START.plusDays(DAYS)); month = month.plusMonths(1)) {
+            partitions.ensure(month);
+        }
+        double[] zipf = zipfCdf(ROOMS, SKEW);
+
+        ConcurrentLinkedQueue<Event> history = new ConcurrentLinkedQueue<>();
+        List<Long> created = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int ops = OPS / THREADS + (t < OPS % THREADS ? 1 : 0);
+            pool.submit(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ops; i++) {
+                        history.add(step(strategy, guest, rooms, zipf, created));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        boolean finished = done.await(10, TimeUnit.MINUTES);
+        long wall = System.nanoTime() - began;
+        pool.shutdownNow();
+
+        List<Event> events = new ArrayList<>(history);
+        try {
+            assertTrue(finished, "workload did not finish");
+            report(strategy, events, wall);
+            List<String> errors = events.stream().filter(e -> e.outcome() == Outcome.ERROR)
+                    .map(e -> e.op() + ": " + e.error()).limit(5).toList();
+            assertTrue(errors.isEmpty(), "operations failed: " + errors);
+            assertEquals(0, overlappingStaysInDatabase(rooms), "rooms with overlapping live stays in the database");
+            assertEquals(List.of(), overlappingStaysInHistory(events), "overlapping live stays in the history");
+            assertEquals(List.of(), unjustifiedRefusals(events), "bookings refused without a conflicting stay");
+            for (Room room : rooms) {
+                List<Event> register = events.stream()
+                        .filter(e -> e.roomIds().contains(room.getId()))
+                        .filter(e -> e.op() == Op.HOLD || e.op() == Op.RELEASE || e.op() == Op.READ)
+                        .sorted(Comparator.comparingLong(Event::invoked))
+                        .toList();
+                assertTrue(linearizable(register, true), "availability of room " + room.getRoomNumber()
+                        + " is not linearizable over " + register.size() + " operations");
+            }
+        } finally {
+            bookingRepository.deleteAllById(created);
+            roomRepository.deleteAllById(rooms.stream().map(Room::getId).toList());
+            userRepository.deleteById(guest.getId());
+        }
+    }
+
+    private Event step(LockingStrategy strategy, User guest, List<Room> rooms, double[] zipf, List<Long> created) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Room room = rooms.get(pick(zipf, random));
+        int dice = random.nextInt(100);
+        Op op = dice < 40 ? Op.CREATE : dice < 50 ? Op.CANCEL : dice < 65 ? Op.HOLD
+                : dice < 75 ? Op.RELEASE : dice < 95 ? Op.READ : Op.ADMIN_EDIT;
+        if (op == Op.CANCEL && created.isEmpty()) op = Op.READ;
+        List<Long> roomIds = List.of(room.getId());
+        LocalDate checkIn = null;
+        LocalDate checkOut = null;
+        long bookingId = 0;
+        if (op == Op.CREATE) {
+            // A quarter of the bookings take a second room, so multi-room lock ordering is exercised too
+            List<Room> stay = new ArrayList<>(List.of(room));
+            Room other = rooms.get(pick(zipf, random));
+            if (random.nextInt(4) == 0 && other != room) stay.add(other);
+            roomIds = stay.stream().map(Room::getId).toList();
+            checkIn = WINDOW_START.plusDays(random.nextInt(DAYS));
+            checkOut = checkIn.plusDays(1 + random.nextInt(5));
+            // A fifth leave out the check-out; those are one-night stays and must be checked like any other
+            boolean openEnded = random.nextInt(5) == 0;
+            if (openEnded) checkOut = checkIn.plusDays(1);
+            Booking booking = new Booking();
+            booking.setUser(guest);
+            booking.setRooms(stay);
+            booking.setFoodItems(List.of());
+            booking.setTotalAmount(BigDecimal.valueOf(100));
+            booking.setStatus(BookingStatus.CONFIRMED);
+            booking.setCheckInDate(checkIn);
+            booking.setCheckOutDate(openEnded ? null : checkOut);
+            long invoked = System.nanoTime();
+            try {
+                var saved = bookingService.createBooking(booking, strategy);
+                long returned = System.nanoTime();
+                if (saved.isEmpty()) {
+                    return new Event(op, roomIds, checkIn, checkOut, 0, invoked, returned, Outcome.REFUSED, false, null);
+                }
+                created.add(saved.get().getId());
+                return new Event(op, roomIds, checkIn, checkOut, saved.get().getId(), invoked, returned, Outcome.OK, false, null);
+            } catch (RuntimeException e) {
+                return new Event(op, roomIds, checkIn, checkOut, 0, invoked, System.nanoTime(), Outcome.ERROR, false, e.toString());
+            }
+        }
+        if (op == Op.CANCEL) {
+            synchronized (created) {
+                bookingId = created.get(random.nextInt(created.size()));
+            }
+            roomIds = List.of();
+        }
+        long invoked = System.nanoTime();
+        try {
+            Outcome outcome = Outcome.OK;
+            boolean value = false;
+            switch (op) {
+                case CANCEL -> bookingService.updateStatus(bookingId, BookingStatus.CANCELLED);
+                case HOLD -> outcome = bookingService.bookRoom(room.getRoomNumber()) ? Outcome.OK : Outcome.REFUSED;
+                case RELEASE -> bookingService.releaseRoom(room.getRoomNumber());
+                case READ -> value = roomRepository.findById(room.getId()).orElseThrow().getAvailable();
+                case ADMIN_EDIT -> {
+                    // The admin form round trip: load, change the price, save the detached copy back
+                    Room edited = roomRepository.findById(room.getId()).orElseThrow();
+                    edited.setPricePerNight(BigDecimal.valueOf(100 + random.nextInt(100)));
+                    try {
+                        roomRepository.save(edited);
+                    } catch (ObjectOptimisticLockingFailureException e) {
+                        outcome = Outcome.STALE;
+                    }
+                }
+                default -> throw new IllegalStateException(op.name());
+            }
+            return new Event(op, roomIds, null, null, bookingId, invoked, System.nanoTime(), outcome, value, null);
+        } catch (RuntimeException e) {
+            return new Event(op, roomIds, null, null, bookingId, invoked, System.nanoTime(), Outcome.ERROR, false, e.toString());
+        }
+    }
+
+    private long overlappingStaysInDatabase(List<Room> rooms) {
+        String ids = rooms.stream().map(r -> r.getId().toString()).collect(Collectors.joining(","));
+        Long count = jdbc.queryForObject("""
+                SELECT count(DISTINCT ra.room_id) FROM booking_rooms ra
+                JOIN bookings a ON a.id = ra.booking_id
+                JOIN booking_rooms rb ON rb.room_id = ra.room_id AND rb.booking_id > ra.booking_id
+                JOIN bookings b ON b.id = rb.booking_id
+                WHERE ra.room_id IN (%s) AND a.status <> 'CANCELLED' AND b.status <> 'CANCELLED'
+                  AND a.check_in_date < b.check_out_date AND b.check_in_date < a.check_out_date""".formatted(ids), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static List<String> overlappingStaysInHistory(List<Event> events) {
+        Set<Long> cancelled = events.stream().filter(e -> e.op() == Op.CANCEL && e.outcome() == Outcome.OK)
+                .map(Event::bookingId).collect(Collectors.toSet());
+        Map<Long, List<Event>> live = new HashMap<>();
+        for (Event e : events) {
+            if (e.op() != Op.CREATE || e.outcome() != Outcome.OK || cancelled.contains(e.bookingId())) continue;
+            for (Long roomId : e.roomIds()) live.computeIfAbsent(roomId, k -> new ArrayList<>()).add(e);
+        }
+        List<String> overlaps = new ArrayList<>();
+        live.forEach((roomId, stays) -> {
+            stays.sort(Comparator.comparing(Event::checkIn));
+            for (int i = 1; i < stays.size(); i++) {
+                if (stays.get(i).checkIn().isBefore(stays.get(i - 1).checkOut())) {
+                    overlaps.add("room " + roomId + ": bookings " + stays.get(i - 1).bookingId() + " and " + stays.get(i).bookingId());
+                }
+            }
+        });
+        return overlaps;
+    }
+
+    // A refusal is justified by a booking on a shared room and overlapping dates that had been invoked before the
+    // refusal returned and whose cancellation (if any) had not finished before the refusal was invoked
+    private static List<String> unjustifiedRefusals(List<Event> events) {
+        Map<Long, Long> cancelledBy = new HashMap<>();
+        for (Event e : events) {
+            if (e.op() == Op.CANCEL && e.outcome() == Outcome.OK) cancelledBy.merge(e.bookingId(), e.returned(), Math::min);
+        }
+        List<Event> stays = events.stream().filter(e -> e.op() == Op.CREATE && e.outcome() == Outcome.OK).toList();
+        List<String> unjustified = new ArrayList<>();
+        for (Event refused : events) {
+            if (refused.op() != Op.CREATE || refused.outcome() != Outcome.REFUSED) continue;
+            boolean justified = stays.stream().anyMatch(stay -> stay.invoked() < refused.returned()
+                    && cancelledBy.getOrDefault(stay.bookingId(), Long.MAX_VALUE) > refused.invoked()
+                    && !Collections.disjoint(stay.roomIds(), refused.roomIds())
+                    && stay.checkIn().isBefore(refused.checkOut()) && refused.checkIn().isBefore(stay.checkOut()));
+            if (!justified) unjustified.add(refused.roomIds() + " " + refused.checkIn() + ".." + refused.checkOut());
+        }
+        return unjustified;
+    }
+
+    private record Frame(BitSet done, boolean available) {}
+
+    /**
+     * Wing and Gong style search: repeatedly linearize one operation that no other pending operation returned before,
+     * backtracking on a dead end, with (linearized set, register value) states memoized so each is explored once.
+     * ops are sorted by invoke time; HOLD is test-and-set, RELEASE sets available, READ must see the current value.
+     */
+    private static boolean linearizable(List<Event> ops, boolean initial) {
+        int n = ops.size();
+        Set<Frame> seen = new HashSet<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(new BitSet(n), initial));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            if (frame.done().cardinality() == n) return true;
+            if (!seen.add(frame)) continue;
+            long firstReturn = Long.MAX_VALUE;
+            for (int i = frame.done().nextClearBit(0); i < n; i = frame.done().nextClearBit(i + 1)) {
+                firstReturn = Math.min(firstReturn, ops.get(i).returned());
+            }
+            for (int i = frame.done().nextClearBit(0); i < n && ops.get(i).invoked() <= firstReturn;
+                 i = frame.done().nextClearBit(i + 1)) {
+                Event op = ops.get(i);
+                Boolean next = switch (op.op()) {
+                    case HOLD -> op.outcome() == Outcome.OK ? (frame.available() ? Boolean.FALSE : null)
+                            : (frame.available() ? null : Boolean.FALSE);
+                    case RELEASE -> Boolean.TRUE;
+                    case READ -> op.value() == frame.available() ? frame.available() : null;
+                    default -> throw new IllegalArgumentException(op.op().name());
+                };
+                if (next == null) continue;
+                BitSet done = (BitSet) frame.done().clone();
+                done.set(i);
+                stack.push(new Frame(done, next));
+            }
+        }
+        return false;
+    }
+
+    private static void report(LockingStrategy strategy, List<Event> events, long wallNanos) {
+        System.out.printf("%s: %d ops on %d threads over %d rooms (skew %.2f) in %d ms, %.0f ops/s%n", strategy,
+                events.size(), THREADS, ROOMS, SKEW, wallNanos / 1_000_000, events.size() * 1e9 / wallNanos);
+        Map<Op, List<Event>> byOp = new EnumMap<>(Op.class);
+        events.forEach(e -> byOp.computeIfAbsent(e.op(), k -> new ArrayList<>()).add(e));
+        byOp.forEach((op, list) -> {
+            long[] micros = list.stream().mapToLong(e -> (e.returned() - e.invoked()) / 1_000).sorted().toArray();
+            Map<Outcome, Long> outcomes = list.stream().collect(Collectors.groupingBy(Event::outcome, () -> new EnumMap<>(Outcome.class),
+                    Collectors.counting()));
+            System.out.printf("  %-10s n=%-5d p50=%dus p99=%dus max=%dus %s%n", op, micros.length,
+                    percentile(micros, 0.50), percentile(micros, 0.99), micros[micros.length - 1], outcomes);
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    // Cumulative weights 1/k^s; s = 0 is uniform
+    private static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, s);
+            cdf[k] = sum;
+        }
+        return cdf;
+    }
+
+    private static int pick(double[] cdf, ThreadLocalRandom random) {
+        int i = Arrays.binarySearch(cdf, random.nextDouble() * cdf[cdf.length - 1]);
+        return i >= 0 ? i : -i - 1;
+    }
+}
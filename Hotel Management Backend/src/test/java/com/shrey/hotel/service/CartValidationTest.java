@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import com.shrey.hotel.BaseIntegrationTest;
+import com.shrey.hotel.exception.ConflictException;
 import com.shrey.hotel.model.FoodItem;
 import com.shrey.hotel.model.Room;
 import com.shrey.hotel.repository.FoodItemRepository;
@@ -53,7 +54,7 @@ public class CartValidationTest extends BaseIntegrationTest {
         
         // Attempt to add 11th distinct room
         Room eleventhRoom = allRooms.get(10);
-        IllegalStateException ex = assertThrows(IllegalStateException.class,
+        ConflictException ex = assertThrows(ConflictException.class,
                 () -> cartService.addRoomToCart(sessionId, eleventhRoom.getId()));
         assertTrue(ex.getMessage().toLowerCase().contains("cart"));
     }
@@ -75,7 +76,7 @@ public class CartValidationTest extends BaseIntegrationTest {
         
         // Try to add 11th item (6th food)
         FoodItem sixthFood = allFoods.get(5);
-        IllegalStateException ex = assertThrows(IllegalStateException.class,
+        ConflictException ex = assertThrows(ConflictException.class,
                 () -> cartService.addFoodToCart(sessionId, sixthFood.getId(), 1));
         assertTrue(ex.getMessage().toLowerCase().contains("cart"));
     }
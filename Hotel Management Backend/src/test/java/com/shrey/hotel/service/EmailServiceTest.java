@@ -18,6 +18,9 @@ import com.shrey.hotel.model.Booking;
 import com.shrey.hotel.model.BookingStatus;
 import com.shrey.hotel.model.Room;
 import com.shrey.hotel.model.User;
+import com.shrey.hotel.observability.HotelMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SuppressWarnings({"null"})
 public class EmailServiceTest {
@@ -25,7 +28,7 @@ public class EmailServiceTest {
     @Test
     void sendBookingConfirmation_buildsMessage() {
         JavaMailSender sender = mock(JavaMailSender.class);
-        EmailService svc = new EmailService(sender);
+        EmailService svc = new EmailService(sender, new HotelMetrics(new SimpleMeterRegistry()));
         // manually set fromAddress default via reflection since @Value not processed
         try {
             var f = EmailService.class.getDeclaredField("fromAddress");
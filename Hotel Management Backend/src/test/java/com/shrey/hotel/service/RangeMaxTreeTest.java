@@ -0,0 +1,45 @@
+package com.shrey.hotel.service;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+public class RangeMaxTreeTest {
+
+    @Test
+    void range_adds_and_maxes_match_a_plain_array() {
+        Random random = new Random(43);
+        for (int size : new int[] {1, 2, 7, 64, 365}) {
+            RangeMaxTree tree = new RangeMaxTree(size);
+            int[] naive = new int[size];
+            for (int op = 0; op < 2_000; op++) {
+                int from = random.nextInt(size);
+                int to = from + 1 + random.nextInt(size - from);
+                if (random.nextBoolean()) {
+                    int delta = random.nextInt(5) - 2;
+                    tree.add(from, to, delta);
+                    for (int i = from; i < to; i++) naive[i] += delta;
+                } else {
+                    int expected = Arrays.stream(naive, from, to).max().getAsInt();
+                    assertEquals(expected, tree.max(from, to), "max[" + from + "," + to + ") of size " + size);
+                }
+            }
+            assertArrayEquals(naive, tree.values());
+        }
+    }
+
+    @Test
+    void ranges_are_clipped_and_empty_ranges_have_no_max() {
+        RangeMaxTree tree = new RangeMaxTree(10);
+        tree.add(-5, 3, 2);
+        tree.add(8, 50, 1);
+
+        assertEquals(2, tree.max(0, 10));
+        assertEquals(1, tree.max(3, 10));
+        assertEquals(0, tree.max(3, 8));
+        assertEquals(Integer.MIN_VALUE, tree.max(4, 4));
+    }
+}
@@ -0,0 +1,64 @@
+package com.shrey.hotel.service;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.shrey.hotel.model.RoomRate;
+
+public class RateTableTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 6, 2);
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.FRIDAY, DayOfWeek.SATURDAY);
+
+    private static RoomRate rate(String type, LocalDate from, LocalDate to, String weekday, String weekend) {
+        return new RoomRate(type, from, to, new BigDecimal(weekday), new BigDecimal(weekend));
+    }
+
+    @Test
+    void weekend_nights_use_the_weekend_rate() {
+        RateTable table = RateTable.build(List.of(rate("Deluxe", MONDAY, null, "100.00", "150.00")), MONDAY, 30, WEEKEND);
+
+        // Mon..Sun: five weekday nights, Friday and Saturday at the weekend rate
+        assertEquals(5 * 10_000 + 2 * 15_000, table.stay("Deluxe", 1, MONDAY, MONDAY.plusDays(7)));
+        // Room types match case- and whitespace-insensitively
+        assertEquals(15_000, table.stay(" deluxe ", 1, MONDAY.plusDays(4), MONDAY.plusDays(5)));
+    }
+
+    @Test
+    void later_period_overrides_and_uncovered_nights_fall_back_to_the_flat_price() {
+        RateTable table = RateTable.build(List.of(
+                rate("SUITE", MONDAY.plusDays(1), null, "200.00", "200.00"),
+                rate("SUITE", MONDAY.plusDays(2), MONDAY.plusDays(4), "300.00", "300.00")), MONDAY, 30, WEEKEND);
+
+        // Mon flat, Tue base, Wed+Thu season, Fri base again
+        assertEquals(5_000 + 20_000 + 2 * 30_000 + 20_000, table.stay("SUITE", 5_000, MONDAY, MONDAY.plusDays(5)));
+        // No rates at all for this type: flat price per night
+        assertEquals(3 * 5_000, table.stay("SINGLE", 5_000, MONDAY, MONDAY.plusDays(3)));
+        assertEquals(0, table.stay("SUITE", 5_000, MONDAY.plusDays(3), MONDAY.plusDays(3)));
+    }
+
+    @Test
+    void stays_outside_the_window_price_the_same_as_inside() {
+        List<RoomRate> rates = List.of(
+                rate("DOUBLE", MONDAY.minusDays(40), null, "120.00", "180.00"),
+                rate("DOUBLE", MONDAY.plusDays(10), MONDAY.plusDays(25), "210.50", "260.75"));
+        RateTable wide = RateTable.build(rates, MONDAY.minusDays(60), 200, WEEKEND);
+        RateTable narrow = RateTable.build(rates, MONDAY, 14, WEEKEND);
+
+        for (int start = -50; start < 40; start += 3) {
+            for (int length = 1; length <= 20; length += 4) {
+                LocalDate in = MONDAY.plusDays(start);
+                LocalDate out = in.plusDays(length);
+                assertEquals(wide.stay("DOUBLE", 9_999, in, out), narrow.stay("DOUBLE", 9_999, in, out),
+                        "stay " + in + " -> " + out);
+            }
+        }
+    }
+}
@@ -57,6 +57,7 @@ export default function Admin() {
   const [activeTab, setActiveTab] = useState<'stats' | 'users' | 'rooms' | 'food' | 'bookings' | 'add-food' | 'edit-prices'>('stats');
   const [stats, setStats] = useState<Stats | null>(null);
   const [users, setUsers] = useState<User[]>([]);
+  const [usersTotal, setUsersTotal] = useState(0);
   const [rooms, setRooms] = useState<Room[]>([]);
   const [foodItems, setFoodItems] = useState<FoodItem[]>([]);
   const [bookings, setBookings] = useState<Booking[]>([]);
@@ -78,14 +79,16 @@ export default function Admin() {
     try {
       const [statsRes, usersRes, roomsRes, foodRes, bookingsRes] = await Promise.all([
         apiClient.get('/admin/stats'),
-        apiClient.get('/admin/users'),
+        apiClient.get('/admin/users', { params: { size: 50 } }),
         apiClient.get('/admin/rooms'),
         apiClient.get('/admin/food-items'),
         apiClient.get('/admin/bookings')
       ]);
 
       setStats(statsRes.data);
-      setUsers(usersRes.data);
+      // Paged directory: first page of users plus the overall count
+      setUsers(usersRes.data.content);
+      setUsersTotal(usersRes.data.totalElements);
       setRooms(roomsRes.data);
       setFoodItems(foodRes.data);
       setBookings(bookingsRes.data);
@@ -336,7 +339,7 @@ export default function Admin() {
           {activeTab === 'users' && (
             <div className="bg-white rounded-xl shadow-lg overflow-hidden">
               <div className="p-6 border-b">
-                <h2 className="font-heading text-2xl font-bold uppercase">All Users ({users.length})</h2>
+                <h2 className="font-heading text-2xl font-bold uppercase">All Users ({usersTotal})</h2>
               </div>
               <div className="overflow-x-auto">
                 <table className="w-full">
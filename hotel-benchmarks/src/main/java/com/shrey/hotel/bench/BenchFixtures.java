@@ -0,0 +1,115 @@
+package com.shrey.hotel.bench;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.BookingStatus;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Role;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.RoomRate;
+import com.shrey.hotel.model.User;
+
+/**
+ * Catalog shaped like the seeded data in DataInitializer and V4__add_more_inventory.sql.
+ */
+final class BenchFixtures {
+
+    static final String SECRET = "benchmark-secret-key-that-is-at-least-32-chars-long";
+    static final String EMAIL = "bench@hotel.local";
+
+    private static final String[] ROOM_TYPES = {"SINGLE", "DOUBLE", "DELUXE", "SUITE", "PRESIDENTIAL"};
+    private static final String[] CUISINES = {"Indian", "Chinese", "Italian", "Mexican", "Continental", "Thai"};
+
+    private BenchFixtures() {}
+
+    static Map<Long, Room> rooms(int count) {
+        Map<Long, Room> rooms = new LinkedHashMap<>();
+        for (int i = 1; i <= count; i++) {
+            Room room = new Room();
+            room.setId((long) i);
+            room.setRoomNumber(100 + i);
+            room.setRoomType(ROOM_TYPES[i % ROOM_TYPES.length]);
+            room.setPricePerNight(new BigDecimal(1500 + 250 * (i % 7)).setScale(2));
+            room.setAvailable(true);
+            room.setVersion(0L);
+            rooms.put(room.getId(), room);
+        }
+        return rooms;
+    }
+
+    static Map<Long, FoodItem> foodItems(int count) {
+        Map<Long, FoodItem> items = new LinkedHashMap<>();
+        for (int i = 1; i <= count; i++) {
+            FoodItem item = new FoodItem();
+            item.setId((long) i);
+            item.setName("Dish " + i);
+            item.setCuisine(CUISINES[i % CUISINES.length]);
+            item.setPrice(new BigDecimal(80 + 20 * (i % 40)).setScale(2));
+            item.setImageUrl("https://example.com/food/" + i + ".jpg");
+            items.put(item.getId(), item);
+        }
+        return items;
+    }
+
+    // An open-ended weekday/weekend rate per room type plus a summer season for two of them
+    static Map<Long, RoomRate> roomRates(LocalDate from) {
+        Map<Long, RoomRate> rates = new LinkedHashMap<>();
+        for (int i = 0; i < ROOM_TYPES.length; i++) {
+            BigDecimal weekday = new BigDecimal(1600 + 300 * i).setScale(2);
+            addRate(rates, new RoomRate(ROOM_TYPES[i], from, null, weekday, weekday.add(new BigDecimal(400))));
+        }
+        for (int i = 2; i < 4; i++) {
+            BigDecimal weekday = new BigDecimal(2400 + 300 * i).setScale(2);
+            addRate(rates, new RoomRate(ROOM_TYPES[i], from.plusDays(60), from.plusDays(150), weekday, weekday.add(new BigDecimal(600))));
+        }
+        return rates;
+    }
+
+    private static void addRate(Map<Long, RoomRate> rates, RoomRate rate) {
+        rate.setId((long) rates.size() + 1);
+        rates.put(rate.getId(), rate);
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setFullName("Bench User");
+        user.setPasswordHash("$2a$12$abcdefghijklmnopqrstuuJ0fKxZ8cQeYQ3mM0yA0xZl9Jx2cKQ6y");
+        user.setRole(Role.USER);
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        user.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        return user;
+    }
+
+    /** A typical stay: a couple of rooms, a handful of dishes, quantities as JSON. */
+    static Booking booking(List<Room> rooms, List<FoodItem> food) {
+        StringBuilder quantities = new StringBuilder("{");
+        for (int i = 0; i < food.size(); i++) {
+            if (i > 0) quantities.append(',');
+            quantities.append('"').append(food.get(i).getId()).append("\":").append(1 + i % 3);
+        }
+        quantities.append('}');
+
+        Booking booking = new Booking();
+        booking.setId(42L);
+        booking.setUser(user());
+        booking.setRooms(new ArrayList<>(rooms));
+        booking.setFoodItems(new ArrayList<>(food));
+        booking.setFoodQuantities(quantities.toString());
+        booking.setCheckInDate(LocalDate.of(2025, 6, 10));
+        booking.setCheckOutDate(LocalDate.of(2025, 6, 14));
+        booking.setTotalAmount(BigDecimal.ZERO);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        booking.setCreatedAt(LocalDateTime.of(2025, 5, 1, 9, 30));
+        booking.setUpdatedAt(LocalDateTime.of(2025, 5, 1, 9, 30));
+        return booking;
+    }
+}
@@ -0,0 +1,48 @@
+package com.shrey.hotel.bench;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Accepts the usual JMH command line, but always writes
+ * a JSON result file (target/jmh-results/&lt;tag&gt;.json) unless -rf/-rff are given,
+ * so runs from different releases can be diffed.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        if (cli.shouldList()) {
+            new Runner(cli).list();
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result(defaultResultFile());
+        }
+        new Runner(options.build()).run();
+    }
+
+    // Pass -Dbench.tag=0.2.0 (etc.) so each release gets its own baseline file
+    private static String defaultResultFile() {
+        String tag = System.getProperty("bench.tag", "local");
+        File dir = new File("target", "jmh-results");
+        dir.mkdirs();
+        return new File(dir, tag + ".json").getPath();
+    }
+}
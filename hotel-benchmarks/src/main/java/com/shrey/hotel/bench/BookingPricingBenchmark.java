@@ -0,0 +1,114 @@
+package com.shrey.hotel.bench;
+
+import java.security.Principal;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import com.shrey.hotel.controller.BookingCreationController;
+import com.shrey.hotel.controller.BookingCreationController.BookingCreateRequest;
+import com.shrey.hotel.controller.BookingCreationController.FoodItemQuantity;
+import com.shrey.hotel.events.DomainEventBus;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.model.RoomRate;
+import com.shrey.hotel.model.User;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.repository.BookingRepository;
+import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.repository.RoomRateRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.repository.UserRepository;
+import com.shrey.hotel.service.BookingPartitions;
+import com.shrey.hotel.service.BookingService;
+import com.shrey.hotel.service.RateCalendar;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * POST /bookings minus the database and the event consumers: request parsing, rate-calendar room pricing,
+ * the food pricing loop and building the Booking, against in-memory repositories.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingPricingBenchmark {
+
+    @Param({"1", "5"})
+    public int roomCount;
+
+    @Param({"0", "8"})
+    public int foodCount;
+
+    private BookingCreationController controller;
+    private BookingCreateRequest request;
+    private final Principal principal = () -> BenchFixtures.EMAIL;
+
+    @Setup
+    public void setUp() {
+        User user = BenchFixtures.user();
+        UserRepository users = InMemoryRepositories.create(UserRepository.class, Map.of(user.getId(), user), User::getId);
+        RoomRepository rooms = InMemoryRepositories.create(RoomRepository.class, BenchFixtures.rooms(50), Room::getId);
+        FoodItemRepository food = InMemoryRepositories.create(FoodItemRepository.class, BenchFixtures.foodItems(50), FoodItem::getId);
+        BookingRepository bookings = InMemoryRepositories.create(BookingRepository.class, Map.<Long, Booking>of(), Booking::getId);
+        LocalDate today = LocalDate.now();
+        RoomRateRepository rates = InMemoryRepositories.create(RoomRateRepository.class, BenchFixtures.roomRates(today), RoomRate::getId);
+        RateCalendar calendar = new RateCalendar(rates, 730, new DayOfWeek[] {DayOfWeek.FRIDAY, DayOfWeek.SATURDAY});
+        HotelMetrics metrics = new HotelMetrics(new SimpleMeterRegistry());
+        // No consumers: publishing costs the claim and slot write only
+        DomainEventBus eventBus = new DomainEventBus(List.of(), metrics, 4096);
+        // No database: every month's partition counts as present
+        BookingPartitions partitions = new BookingPartitions(null, 12, Duration.ofHours(6), 90) {
+            @Override
+            public void ensure(LocalDate checkIn) {
+            }
+        };
+        // Cache, archive and JDBC are not on the creation path; row locking goes through the in-memory rooms
+        BookingService service = new BookingService(rooms, bookings, null, eventBus, null, partitions, null,
+                BookingService.LockingStrategy.ROW_LOCK);
+        controller = new BookingCreationController(service, users, rooms, food, eventBus, metrics, calendar, partitions);
+
+        request = new BookingCreateRequest();
+        request.roomIds = new ArrayList<>();
+        for (long id = 1; id <= roomCount; id++) {
+            request.roomIds.add(id);
+        }
+        request.foodItems = new ArrayList<>();
+        for (long id = 1; id <= foodCount; id++) {
+            FoodItemQuantity line = new FoodItemQuantity();
+            line.foodItemId = id;
+            line.quantity = (int) (id % 3) + 1;
+            request.foodItems.add(line);
+        }
+        request.foodItemIds = List.of();
+        // Inside the calendar window and across the season boundary, so quotes take the prefix-sum path
+        request.checkInDate = today.plusDays(58).toString();
+        request.checkOutDate = today.plusDays(62).toString();
+    }
+
+    @Benchmark
+    public ResponseEntity<?> createBooking() {
+        return controller.create(request, principal);
+    }
+}
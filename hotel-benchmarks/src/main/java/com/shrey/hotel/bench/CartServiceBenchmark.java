@@ -0,0 +1,82 @@
+package com.shrey.hotel.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shrey.hotel.dto.CartDTO;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.repository.FoodItemRepository;
+import com.shrey.hotel.repository.RoomRepository;
+import com.shrey.hotel.service.CartService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cart mutations on a cart that already holds {@code lines} unique items, so every call
+ * pays a full recalculateTotal over the cart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CartServiceBenchmark {
+
+    private static final String SESSION = "bench-session";
+
+    @Param({"2", "10"})
+    public int lines;
+
+    private CartService cartService;
+    private long roomId;
+    private long foodItemId;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        RoomRepository rooms = InMemoryRepositories.create(RoomRepository.class, BenchFixtures.rooms(50), Room::getId);
+        FoodItemRepository food = InMemoryRepositories.create(FoodItemRepository.class, BenchFixtures.foodItems(50), FoodItem::getId);
+        cartService = new CartService(rooms, food, new HotelMetrics(new SimpleMeterRegistry()));
+
+        int roomLines = lines / 2;
+        for (long id = 1; id <= roomLines; id++) {
+            cartService.addRoomToCart(SESSION, id);
+        }
+        for (long id = 1; id <= lines - roomLines; id++) {
+            cartService.addFoodToCart(SESSION, id, 2);
+        }
+        roomId = 1L;
+        foodItemId = 1L;
+    }
+
+    // Re-adding an existing room leaves the cart shape unchanged but still recalculates
+    @Benchmark
+    public CartDTO addRoom() {
+        return cartService.addRoomToCart(SESSION, roomId);
+    }
+
+    @Benchmark
+    public CartDTO addFood() {
+        quantity = quantity % 20 + 1;
+        return cartService.addFoodToCart(SESSION, foodItemId, quantity);
+    }
+
+    @Benchmark
+    public CartDTO getCart() {
+        return cartService.getCart(SESSION);
+    }
+}
@@ -0,0 +1,87 @@
+package com.shrey.hotel.bench;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Map-backed stand-ins for the Spring Data repositories so benchmarks measure our code,
+ * not Postgres. Only the handful of methods the benchmarked paths call are supported.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {}
+
+    @SuppressWarnings("unchecked")
+    static <R, T> R create(Class<R> repositoryType, Map<Long, T> rows, Function<T, Long> idOf) {
+        Map<Long, T> store = new LinkedHashMap<>(rows);
+        AtomicLong sequence = new AtomicLong(store.keySet().stream().mapToLong(Long::longValue).max().orElse(0));
+        return (R) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[] {repositoryType},
+                (proxy, method, args) -> invoke(repositoryType, store, sequence, idOf, proxy, method, args));
+    }
+
+    private static <T> Object invoke(Class<?> type, Map<Long, T> store, AtomicLong sequence,
+                                     Function<T, Long> idOf, Object proxy, Method method, Object[] args) throws Exception {
+        switch (method.getName()) {
+            case "findById":
+                return Optional.ofNullable(store.get((Long) args[0]));
+            case "findAllById":
+            case "lockAllById": {
+                List<T> result = new ArrayList<>();
+                for (Object id : (Iterable<?>) args[0]) {
+                    T row = store.get((Long) id);
+                    if (row != null) result.add(row);
+                }
+                return result;
+            }
+            case "findAll":
+                return new ArrayList<>(store.values());
+            case "findAllByOrderByEffectiveFromAscIdAsc":
+                // Fixtures are inserted in that order already
+                return new ArrayList<>(store.values());
+            case "countOverlappingStays":
+                // Saved bookings are not retained, so no stay ever overlaps
+                return 0L;
+            case "count":
+                return (long) store.size();
+            case "save": {
+                @SuppressWarnings("unchecked")
+                T entity = (T) args[0];
+                Long id = idOf.apply(entity);
+                if (id == null) {
+                    // New rows get an id but are not retained, so write-heavy benchmarks don't grow the heap
+                    entity.getClass().getMethod("setId", Long.class).invoke(entity, sequence.incrementAndGet());
+                } else {
+                    store.put(id, entity);
+                }
+                return entity;
+            }
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return args[0] == proxy;
+            case "toString":
+                return "InMemory" + type.getSimpleName();
+            default:
+                // Derived finders such as findByEmail: match on the single property argument
+                if (method.getName().startsWith("findBy") && args != null && args.length == 1) {
+                    String property = method.getName().substring("findBy".length());
+                    Method getter = null;
+                    for (T row : store.values()) {
+                        if (getter == null) getter = row.getClass().getMethod("get" + property);
+                        if (args[0].equals(getter.invoke(row))) return Optional.of(row);
+                    }
+                    return Optional.empty();
+                }
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.shrey.hotel.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.model.Booking;
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+
+/**
+ * Jackson cost of the two largest payloads: the catalog page the dashboard fetches with
+ * size=1000 and a single booking with its rooms and food lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Room> roomPage;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC message converter
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<Room> rooms = new ArrayList<>(BenchFixtures.rooms(pageSize).values());
+        roomPage = new PageImpl<>(rooms, PageRequest.of(0, pageSize, Sort.by("roomNumber")), rooms.size());
+
+        List<FoodItem> food = new ArrayList<>(BenchFixtures.foodItems(6).values());
+        booking = BenchFixtures.booking(rooms.subList(0, Math.min(2, rooms.size())), food);
+    }
+
+    @Benchmark
+    public byte[] roomPage() throws Exception {
+        return objectMapper.writeValueAsBytes(roomPage);
+    }
+
+    @Benchmark
+    public byte[] booking() throws Exception {
+        return objectMapper.writeValueAsBytes(booking);
+    }
+}
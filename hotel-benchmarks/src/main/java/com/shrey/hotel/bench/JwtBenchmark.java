@@ -0,0 +1,53 @@
+package com.shrey.hotel.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shrey.hotel.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(BenchFixtures.SECRET, 86_400_000L, 604_800_000L);
+        accessToken = jwtUtil.generateAccessToken(BenchFixtures.EMAIL, Map.of("uid", 1L));
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(BenchFixtures.EMAIL, Map.of("uid", 1L));
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    // What JwtAuthenticationFilter does per request before loading the user
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtUtil.isTokenValid(accessToken) && !jwtUtil.isRefreshToken(accessToken);
+    }
+}
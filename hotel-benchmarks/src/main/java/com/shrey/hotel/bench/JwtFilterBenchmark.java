@@ -0,0 +1,79 @@
+package com.shrey.hotel.bench;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.shrey.hotel.observability.HotelMetrics;
+import com.shrey.hotel.security.JwtAuthenticationFilter;
+import com.shrey.hotel.security.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Full JwtAuthenticationFilter pass for an authenticated request. The user lookup is an
+ * in-memory stub, so the numbers exclude the users-table query the real filter issues.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(BenchFixtures.SECRET, 86_400_000L, 604_800_000L);
+        UserDetails principal = new User(BenchFixtures.EMAIL, "n/a", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        UserDetailsService userDetailsService = username -> principal;
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new HotelMetrics(new SimpleMeterRegistry()));
+        authorizationHeader = "Bearer " + jwtUtil.generateAccessToken(BenchFixtures.EMAIL, Map.of("uid", 1L));
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my-history");
+        request.addHeader("Authorization", authorizationHeader);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Authentication anonymousRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rooms");
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.shrey.hotel.bench;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.shrey.hotel.model.FoodItem;
+import com.shrey.hotel.model.Room;
+import com.shrey.hotel.pricing.Money;
+import com.shrey.hotel.pricing.PricingEngine;
+
+/**
+ * Pricing a stay with PricingEngine (long minor units) against the BigDecimal chain it
+ * replaced. Run with {@code -prof gc}: the engine path should show ~0 B/op apart from the
+ * final BigDecimal at the edge.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"1", "5"})
+    public int roomCount;
+
+    @Param({"0", "8"})
+    public int foodCount;
+
+    private List<Room> rooms;
+    private List<FoodItem> food;
+    private final Map<Long, Integer> quantities = new HashMap<>();
+    private final long nights = 4;
+
+    @Setup
+    public void setUp() {
+        rooms = new ArrayList<>(BenchFixtures.rooms(roomCount).values());
+        food = new ArrayList<>(BenchFixtures.foodItems(foodCount).values());
+        for (FoodItem item : food) {
+            quantities.put(item.getId(), (int) (item.getId() % 3) + 1);
+        }
+    }
+
+    @Benchmark
+    public long engineMinorUnits() {
+        return PricingEngine.stayTotal(rooms, nights, food, quantities, 1);
+    }
+
+    // What the API returns: the same total converted once at the edge
+    @Benchmark
+    public BigDecimal engineToDecimal() {
+        return Money.toDecimal(PricingEngine.stayTotal(rooms, nights, food, quantities, 1));
+    }
+
+    // The BigDecimal loop previously used by BookingCreationController and Booking
+    @Benchmark
+    public BigDecimal legacyBigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Room room : rooms) {
+            BigDecimal roomPrice = room.getPricePerNight() != null ? room.getPricePerNight() : BigDecimal.ZERO;
+            total = total.add(roomPrice.multiply(BigDecimal.valueOf(nights)));
+        }
+        for (FoodItem item : food) {
+            BigDecimal foodPrice = item.getPrice() != null ? item.getPrice() : BigDecimal.ZERO;
+            Integer quantity = quantities.getOrDefault(item.getId(), 1);
+            total = total.add(foodPrice.multiply(BigDecimal.valueOf(quantity)));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,56 @@
+package com.shrey.hotel.load;
+
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Fixture shared by all scenarios: where the API lives, the signed-up virtual users'
+ * access tokens and the catalog ids discovered at start-up.
+ */
+record LoadContext(String baseUrl, List<String> tokens, List<Long> roomIds, List<Long> foodItemIds) {
+
+    int users() {
+        return tokens.size();
+    }
+
+    String token(int user) {
+        return tokens.get(user);
+    }
+
+    String randomToken(ThreadLocalRandom random) {
+        return tokens.get(random.nextInt(tokens.size()));
+    }
+
+    long randomRoomId(ThreadLocalRandom random) {
+        return roomIds.get(random.nextInt(roomIds.size()));
+    }
+
+    long randomFoodItemId(ThreadLocalRandom random) {
+        return foodItemIds.get(random.nextInt(foodItemIds.size()));
+    }
+
+    HttpRequest.Builder get(String path, String token) {
+        return base(path, token).GET();
+    }
+
+    HttpRequest.Builder post(String path, String token, String json) {
+        return base(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    HttpRequest.Builder delete(String path, String token) {
+        return base(path, token).DELETE();
+    }
+
+    private HttpRequest.Builder base(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(Scenario.uri(baseUrl, path))
+                .timeout(Scenario.REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
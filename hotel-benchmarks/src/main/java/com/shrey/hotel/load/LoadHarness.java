@@ -0,0 +1,192 @@
+package com.shrey.hotel.load;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shrey.hotel.HotelManagementApplication;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * End-to-end load run on a single box: starts an embedded Postgres (or uses --jdbc-url),
+ * boots the API on a random port (or targets --target), signs up virtual users, drives the
+ * scenario mix with open-model arrivals and compares percentiles against a stored baseline.
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.shrey.hotel.load.LoadHarness \
+ *      --duration=60s --warmup=15s --rate.booking=10 --baseline=load-baseline.json
+ * </pre>
+ *
+ * Exit code is 2 when any percentile regressed beyond --tolerance (default 0.15).
+ */
+public final class LoadHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LoadHarness() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        Duration warmup = duration(options.getOrDefault("warmup", "10s"));
+        Duration measured = duration(options.getOrDefault("duration", "60s"));
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        double tolerance = Double.parseDouble(options.getOrDefault("tolerance", "0.15"));
+        File reportFile = new File(options.getOrDefault("report", "target/load-report.json"));
+        File baselineFile = new File(options.getOrDefault("baseline", "load-baseline.json"));
+
+        Map<Scenario, Double> rates = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : Scenario.values()) {
+            rates.put(scenario, Double.parseDouble(
+                    options.getOrDefault("rate." + scenario.key(), String.valueOf(scenario.defaultRatePerSecond()))));
+        }
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext app = null;
+        int exitCode = 0;
+        try {
+            String baseUrl = options.get("target");
+            if (baseUrl == null) {
+                String jdbcUrl = options.get("jdbc-url");
+                if (jdbcUrl == null) {
+                    postgres = EmbeddedPostgres.builder().start();
+                    jdbcUrl = postgres.getJdbcUrl("postgres", "postgres");
+                }
+                app = boot(jdbcUrl, options.getOrDefault("db-user", "postgres"), options.getOrDefault("db-password", "postgres"));
+                int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+                baseUrl = "http://localhost:" + port + "/api";
+            }
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadContext context = prepare(client, baseUrl, users);
+            System.out.printf("Driving %s for %ss (+%ss warm-up) against %s%n", rates, measured.toSeconds(), warmup.toSeconds(), baseUrl);
+
+            Map<Scenario, ScenarioStats> stats = new OpenModelDriver(client, context, rates).run(warmup, measured);
+            LoadReport report = new LoadReport(stats, measured);
+            report.print(System.out);
+            report.write(reportFile);
+            report.writeHistogramLog(new File(reportFile.getPath().replaceFirst("\\.json$", "") + ".hlog"));
+            System.out.println("Report written to " + reportFile);
+
+            if (options.containsKey("write-baseline")) {
+                Files.copy(reportFile.toPath(), baselineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                System.out.println("Baseline updated: " + baselineFile);
+            } else if (baselineFile.exists()) {
+                List<String> regressions = report.compare(baselineFile, tolerance);
+                if (regressions.isEmpty()) {
+                    System.out.printf("Within %.0f%% of baseline %s%n", tolerance * 100, baselineFile);
+                } else {
+                    System.out.println("Regressions against " + baselineFile + ":");
+                    regressions.forEach(line -> System.out.println("  " + line));
+                    exitCode = 2;
+                }
+            } else {
+                System.out.println("No baseline at " + baselineFile + "; rerun with --write-baseline to create one");
+            }
+        } finally {
+            if (app != null) app.close();
+            if (postgres != null) postgres.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext boot(String jdbcUrl, String user, String password) {
+        // Command-line arguments outrank application.properties, unlike builder default properties
+        return new SpringApplicationBuilder(HotelManagementApplication.class)
+                .run("--spring.datasource.url=" + jdbcUrl,
+                     "--spring.datasource.username=" + user,
+                     "--spring.datasource.password=" + password,
+                     "--server.port=0",
+                     "--logging.level.com.shrey=INFO");
+    }
+
+    /** Signs up the virtual users in parallel and discovers catalog ids. */
+    private static LoadContext prepare(HttpClient client, String baseUrl, int users) throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        List<String> tokens = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService signups = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> pending = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String email = "load-" + runId + "-" + i + "@example.com";
+                pending.add(signups.submit(() -> {
+                    String body = JSON.writeValueAsString(Map.of("email", email, "password", "LoadTest123!", "fullName", "Load User"));
+                    JsonNode auth = send(client, HttpRequest.newBuilder(Scenario.uri(baseUrl, "/auth/signup"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+                    tokens.add(auth.get("accessToken").asText());
+                    return null;
+                }));
+            }
+            for (Future<?> future : pending) {
+                future.get();
+            }
+        }
+        List<Long> roomIds = ids(send(client, HttpRequest.newBuilder(Scenario.uri(baseUrl, "/rooms?size=1000")).GET().build()));
+        List<Long> foodItemIds = ids(send(client, HttpRequest.newBuilder(Scenario.uri(baseUrl, "/food-items?size=1000")).GET().build()));
+        if (roomIds.isEmpty() || foodItemIds.isEmpty()) {
+            throw new IllegalStateException("Catalog is empty; is DataInitializer disabled?");
+        }
+        return new LoadContext(baseUrl, List.copyOf(tokens), roomIds, foodItemIds);
+    }
+
+    private static JsonNode send(HttpClient client, HttpRequest request) throws Exception {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(request.uri() + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return JSON.readTree(response.body());
+    }
+
+    private static List<Long> ids(JsonNode page) {
+        List<Long> ids = new ArrayList<>();
+        page.path("content").forEach(node -> ids.add(node.get("id").asLong()));
+        return ids;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    private static Duration duration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        if (v.endsWith("m")) return Duration.ofMinutes(Long.parseLong(v.substring(0, v.length() - 1)));
+        if (v.endsWith("s")) return Duration.ofSeconds(Long.parseLong(v.substring(0, v.length() - 1)));
+        return Duration.ofSeconds(Long.parseLong(v));
+    }
+}
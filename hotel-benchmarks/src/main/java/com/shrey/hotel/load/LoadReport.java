@@ -0,0 +1,123 @@
+package com.shrey.hotel.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Percentile summary of a run, stored as JSON so it can double as the next baseline.
+ * A percentile regresses when it is both {@code tolerance} relatively and 1 ms absolutely
+ * slower than the baseline, which keeps sub-millisecond noise from failing a deploy.
+ */
+final class LoadReport {
+
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final double MIN_REGRESSION_MS = 1.0;
+
+    private final Map<String, Object> root = new LinkedHashMap<>();
+    private final Map<Scenario, Histogram> histograms = new LinkedHashMap<>();
+
+    LoadReport(Map<Scenario, ScenarioStats> stats, Duration measured) {
+        root.put("timestamp", Instant.now().toString());
+        root.put("durationSeconds", measured.toSeconds());
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        for (Map.Entry<Scenario, ScenarioStats> entry : stats.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            histograms.put(entry.getKey(), histogram);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", histogram.getTotalCount());
+            summary.put("throughputPerSecond", round(histogram.getTotalCount() / (double) Math.max(1, measured.toSeconds())));
+            summary.put("errors", entry.getValue().errors());
+            summary.put("expectedRejections", entry.getValue().expectedRejections());
+            for (double percentile : PERCENTILES) {
+                summary.put(percentileKey(percentile), millis(histogram.getValueAtPercentile(percentile)));
+            }
+            summary.put("maxMs", millis(histogram.getMaxValue()));
+            scenarios.put(entry.getKey().key(), summary);
+        }
+        root.put("scenarios", scenarios);
+    }
+
+    void write(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        JSON.writeValue(file, root);
+    }
+
+    /** Full-resolution histograms in HdrHistogram log format, for HistogramLogAnalyzer and friends. */
+    void writeHistogramLog(File file) throws IOException {
+        try (PrintStream out = new PrintStream(file)) {
+            HistogramLogWriter writer = new HistogramLogWriter(out);
+            writer.outputLogFormatVersion();
+            writer.outputLegend();
+            for (Map.Entry<Scenario, Histogram> entry : histograms.entrySet()) {
+                entry.getValue().setTag(entry.getKey().key());
+                writer.outputIntervalHistogram(entry.getValue());
+            }
+        }
+    }
+
+    /** Returns one line per regressed percentile; empty when the run is within tolerance. */
+    @SuppressWarnings("unchecked")
+    List<String> compare(File baselineFile, double tolerance) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        Map<String, Object> baseline = JSON.readValue(baselineFile, Map.class);
+        Map<String, Object> baseScenarios = (Map<String, Object>) baseline.getOrDefault("scenarios", Map.of());
+        Map<String, Object> scenarios = (Map<String, Object>) root.get("scenarios");
+        for (Map.Entry<String, Object> entry : scenarios.entrySet()) {
+            Map<String, Object> base = (Map<String, Object>) baseScenarios.get(entry.getKey());
+            if (base == null) continue;
+            Map<String, Object> current = (Map<String, Object>) entry.getValue();
+            for (double percentile : PERCENTILES) {
+                String key = percentileKey(percentile);
+                if (!(base.get(key) instanceof Number baseValue)) continue;
+                double was = baseValue.doubleValue();
+                double now = ((Number) current.get(key)).doubleValue();
+                if (now > was * (1 + tolerance) && now - was > MIN_REGRESSION_MS) {
+                    regressions.add(String.format("%s %s: %.2f ms -> %.2f ms (+%.0f%%)",
+                            entry.getKey(), key, was, now, (now / was - 1) * 100));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(PrintStream out) {
+        out.printf("%-16s %9s %8s %7s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        Map<String, Object> scenarios = (Map<String, Object>) root.get("scenarios");
+        for (Map.Entry<String, Object> entry : scenarios.entrySet()) {
+            Map<String, Object> s = (Map<String, Object>) entry.getValue();
+            out.printf("%-16s %9d %8.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), s.get("requests"), s.get("throughputPerSecond"), s.get("errors"),
+                    s.get("p50Ms"), s.get("p90Ms"), s.get("p99Ms"), s.get("p999Ms"), s.get("maxMs"));
+        }
+    }
+
+    private static String percentileKey(double percentile) {
+        return percentile == 99.9 ? "p999Ms" : "p" + (int) percentile + "Ms";
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.shrey.hotel.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: arrivals follow a Poisson process at the configured rate per
+ * scenario regardless of how fast the server answers, and each arrival runs on its own
+ * virtual thread. Requests that arrive during the warm-up window are sent but not recorded.
+ */
+final class OpenModelDriver {
+
+    private final HttpClient client;
+    private final LoadContext context;
+    private final Map<Scenario, Double> ratesPerSecond;
+
+    OpenModelDriver(HttpClient client, LoadContext context, Map<Scenario, Double> ratesPerSecond) {
+        this.client = client;
+        this.context = context;
+        this.ratesPerSecond = ratesPerSecond;
+    }
+
+    Map<Scenario, ScenarioStats> run(Duration warmup, Duration measured) throws InterruptedException {
+        Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + measured.toNanos();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Thread> arrivals = new ArrayList<>();
+            for (Map.Entry<Scenario, Double> entry : ratesPerSecond.entrySet()) {
+                if (entry.getValue() <= 0) continue;
+                Scenario scenario = entry.getKey();
+                ScenarioStats scenarioStats = new ScenarioStats();
+                stats.put(scenario, scenarioStats);
+                double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / entry.getValue();
+                arrivals.add(Thread.ofPlatform().name("arrivals-" + scenario.key()).start(() ->
+                        generate(scenario, scenarioStats, requests, meanIntervalNanos, start, measureFrom, end)));
+            }
+            for (Thread arrival : arrivals) {
+                arrival.join();
+            }
+            requests.shutdown();
+            if (!requests.awaitTermination(Scenario.REQUEST_TIMEOUT.toSeconds() + 5, TimeUnit.SECONDS)) {
+                requests.shutdownNow();
+            }
+        }
+        return stats;
+    }
+
+    private void generate(Scenario scenario, ScenarioStats stats, ExecutorService requests,
+                          double meanIntervalNanos, long start, long measureFrom, long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            final long arrival = intended;
+            final boolean record = arrival >= measureFrom;
+            requests.execute(() -> fire(scenario, stats, arrival, record));
+            // Exponential inter-arrival times give a Poisson arrival process
+            intended += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+        }
+    }
+
+    private void fire(Scenario scenario, ScenarioStats stats, long intendedNanos, boolean record) {
+        int status;
+        try {
+            status = client.send(scenario.request(context, ThreadLocalRandom.current()),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (record) {
+            stats.record(scenario, System.nanoTime() - intendedNanos, status);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.shrey.hotel.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The request mix the frontend produces. Each arrival picks a random virtual user and
+ * issues one request; statuses listed as expected (e.g. 409 when a stay is already
+ * taken) are recorded but not counted as errors.
+ */
+enum Scenario {
+
+    // Dashboard.tsx / Home.tsx: both catalog pages on every load
+    CATALOG_BROWSE(40) {
+        @Override
+        HttpRequest request(LoadContext ctx, ThreadLocalRandom random) {
+            String path = random.nextBoolean() ? "/rooms?size=1000" : "/food-items?size=1000";
+            return ctx.get(path, null).build();
+        }
+    },
+
+    // Cart.tsx: add, remove and clear in a signed-in user's session cart. Clears and removes keep
+    // carts well under the 10-item cap; the occasional full cart answers 409, which is expected
+    CART_EDIT(30, 409) {
+        @Override
+        HttpRequest request(LoadContext ctx, ThreadLocalRandom random) {
+            int user = random.nextInt(ctx.users());
+            String token = ctx.token(user);
+            String session = "load-" + user;
+            int dice = random.nextInt(20);
+            if (dice < 4) {
+                String body = "{\"roomId\":" + ctx.randomRoomId(random) + "}";
+                return ctx.post("/cart/rooms", token, body).header("Session-Id", session).build();
+            }
+            if (dice < 11) {
+                String body = "{\"foodItemId\":" + ctx.randomFoodItemId(random) + ",\"quantity\":" + (1 + random.nextInt(4)) + "}";
+                return ctx.post("/cart/food", token, body).header("Session-Id", session).build();
+            }
+            if (dice < 14) {
+                return ctx.delete("/cart/rooms/" + ctx.randomRoomId(random), token).header("Session-Id", session).build();
+            }
+            if (dice < 17) {
+                return ctx.delete("/cart/food/" + ctx.randomFoodItemId(random), token).header("Session-Id", session).build();
+            }
+            return ctx.delete("/cart", token).header("Session-Id", session).build();
+        }
+    },
+
+    // Cart.tsx checkout: POST /bookings with dates spread far apart to keep conflicts rare
+    BOOKING(5, 409) {
+        @Override
+        HttpRequest request(LoadContext ctx, ThreadLocalRandom random) {
+            LocalDate checkIn = LocalDate.now().plusDays(1 + random.nextInt(3 * 365));
+            LocalDate checkOut = checkIn.plusDays(1 + random.nextInt(4));
+            String body = """
+                    {"roomIds":[%d],"foodItems":[{"foodItemId":%d,"quantity":%d}],"checkInDate":"%s","checkOutDate":"%s"}
+                    """.formatted(ctx.randomRoomId(random), ctx.randomFoodItemId(random), 1 + random.nextInt(3), checkIn, checkOut);
+            return ctx.post("/bookings", ctx.randomToken(random), body).build();
+        }
+    },
+
+    // BookingHistory.tsx
+    HISTORY(15) {
+        @Override
+        HttpRequest request(LoadContext ctx, ThreadLocalRandom random) {
+            return ctx.get("/bookings/my-history?page=0&size=10", ctx.randomToken(random)).build();
+        }
+    };
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final double defaultRatePerSecond;
+    private final int[] expectedErrorStatuses;
+
+    Scenario(double defaultRatePerSecond, int... expectedErrorStatuses) {
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.expectedErrorStatuses = expectedErrorStatuses;
+    }
+
+    abstract HttpRequest request(LoadContext ctx, ThreadLocalRandom random);
+
+    double defaultRatePerSecond() {
+        return defaultRatePerSecond;
+    }
+
+    boolean isError(int status) {
+        if (status < 400) return false;
+        for (int expected : expectedErrorStatuses) {
+            if (status == expected) return false;
+        }
+        return true;
+    }
+
+    /** Option key, e.g. {@code rate.catalog-browse}. */
+    String key() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    static URI uri(String base, String path) {
+        return URI.create(base + path);
+    }
+}
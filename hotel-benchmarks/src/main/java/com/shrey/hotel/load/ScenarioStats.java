@@ -0,0 +1,44 @@
+package com.shrey.hotel.load;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram (microseconds, 3 significant digits) and outcome counters for one
+ * scenario. Latency is measured from the intended arrival time, not the send time, so
+ * queueing behind a slow server shows up instead of being hidden (coordinated omission).
+ */
+final class ScenarioStats {
+
+    private final ConcurrentHistogram latencyMicros = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder expectedRejections = new LongAdder();
+
+    ScenarioStats() {
+        latencyMicros.setAutoResize(true);
+    }
+
+    void record(Scenario scenario, long latencyNanos, int status) {
+        latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (status < 0 || scenario.isError(status)) {
+            errors.increment();
+        } else if (status >= 400) {
+            expectedRejections.increment();
+        }
+    }
+
+    Histogram histogram() {
+        return latencyMicros.copy();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    long expectedRejections() {
+        return expectedRejections.sum();
+    }
+}
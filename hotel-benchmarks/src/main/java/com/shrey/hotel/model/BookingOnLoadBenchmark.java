@@ -0,0 +1,85 @@
+package com.shrey.hotel.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Booking's @PostLoad repricing of legacy zero-total rows: food_quantities JSON parsed by the
+ * shared static reader, then the stay priced in minor units by PricingEngine. Lives in the
+ * model package because the callback is protected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingOnLoadBenchmark {
+
+    @Param({"0", "6"})
+    public int foodLines;
+
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Room room = new Room();
+            room.setId((long) i);
+            room.setRoomNumber(200 + i);
+            room.setPricePerNight(BigDecimal.valueOf(4500).setScale(2, RoundingMode.UNNECESSARY));
+            rooms.add(room);
+        }
+        List<FoodItem> food = new ArrayList<>();
+        StringBuilder quantities = new StringBuilder("{");
+        for (int i = 1; i <= foodLines; i++) {
+            FoodItem item = new FoodItem();
+            item.setId((long) i);
+            item.setPrice(BigDecimal.valueOf(120 + i * 10).setScale(2, RoundingMode.UNNECESSARY));
+            food.add(item);
+            if (i > 1) quantities.append(',');
+            quantities.append('"').append(i).append("\":").append(i % 3 + 1);
+        }
+        quantities.append('}');
+
+        booking = new Booking();
+        booking.setRooms(rooms);
+        booking.setFoodItems(food);
+        booking.setFoodQuantities(foodLines == 0 ? null : quantities.toString());
+        booking.setCheckInDate(LocalDate.of(2025, 6, 10));
+        booking.setCheckOutDate(LocalDate.of(2025, 6, 14));
+    }
+
+    // Legacy rows have total_amount = 0, which is what triggers the recalculation
+    @Benchmark
+    public BigDecimal onLoadReprice() {
+        booking.setTotalAmount(BigDecimal.ZERO);
+        booking.onLoad();
+        return booking.getTotalAmount();
+    }
+
+    // Rows with a stored total skip the work entirely; baseline for the above
+    @Benchmark
+    public BigDecimal onLoadStoredTotal() {
+        booking.setTotalAmount(BigDecimal.TEN);
+        booking.onLoad();
+        return booking.getTotalAmount();
+    }
+}